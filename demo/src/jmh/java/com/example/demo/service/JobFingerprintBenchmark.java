@@ -0,0 +1,42 @@
+package com.example.demo.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ⏱️ JobFingerprint.hash against the original String.format-based MD5.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=JobFingerprint}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobFingerprintBenchmark {
+
+    private final JobFingerprint fingerprint = new JobFingerprint();
+
+    private final String title = "Senior Software Engineer - Backend (Java/Spring)";
+    private final String company = "Acme Technologies Pvt Ltd";
+    private final String location = "Bengaluru, Karnataka, India";
+
+    @Benchmark
+    public String fastPath() {
+        return fingerprint.hash(title, company, location);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return JobFingerprint.legacyHash(title, company, location);
+    }
+}
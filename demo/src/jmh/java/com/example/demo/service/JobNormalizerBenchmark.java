@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * ⏱️ Parsing one job's experience and posted text: the single-pass parsers against the
+ * original replaceAll-based code.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=JobNormalizer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobNormalizerBenchmark {
+
+    private static final String[][] JOBS = {
+        { "2–5 Yrs", "30+ days ago" },
+        { "0-1 Yrs", "Today" },
+        { "10+ years", "1 day ago" },
+        { "3 Yrs", "Just now" },
+        { "1.5 - 3 yrs", "7 days ago" },
+        { "Fresher", "Few days ago" },
+    };
+
+    private final JobNormalizerService normalizer = new JobNormalizerService();
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private int next;
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        String[] job = nextJob();
+        blackhole.consume(normalizer.parseExperience(job[0]));
+        blackhole.consume(normalizer.parsePostedAt(job[1], now));
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        String[] job = nextJob();
+        blackhole.consume(LegacyJobParsing.normalizeExperience(job[0]));
+        blackhole.consume(LegacyJobParsing.parsePostedDate(job[1], now));
+    }
+
+    private String[] nextJob() {
+        String[] job = JOBS[next];
+        next = (next + 1) % JOBS.length;
+        return job;
+    }
+}
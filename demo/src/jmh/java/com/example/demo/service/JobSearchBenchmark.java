@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.model.Job;
+
+/**
+ * ⏱️ The in-process part of /api/jobs/search: expanding a common query word against a 200k-word
+ * vocabulary, and ranking a full candidate set ({@code jobpilot.search.max-candidates}, 1000).
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=JobSearch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobSearchBenchmark {
+
+    private static final String[] COMMON = {
+        "developer", "engineer", "senior", "java", "python", "backend", "frontend", "data", "cloud", "remote",
+        "bangalore", "pune", "google", "amazon", "spring", "react", "aws", "lead", "intern", "manager"
+    };
+
+    private final JobSearchService jobSearchService = new JobSearchService();
+
+    private List<Job> candidates;
+    private Set<String> exact;
+    private Set<String> terms;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(jobSearchService, "maxExpansions", 10);
+        ReflectionTestUtils.setField(jobSearchService, "maxVocabulary", 500_000);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            Job job = new Job();
+            job.setTitle(randomWord(random) + " " + COMMON[random.nextInt(COMMON.length)]);
+            jobSearchService.index(job);
+        }
+
+        candidates = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Job job = new Job();
+            job.setTitle(COMMON[random.nextInt(COMMON.length)] + " " + COMMON[random.nextInt(COMMON.length)] + " "
+                    + randomWord(random));
+            job.setSkills(COMMON[random.nextInt(COMMON.length)] + ", " + COMMON[random.nextInt(COMMON.length)]);
+            job.setCompany(COMMON[random.nextInt(COMMON.length)]);
+            job.setLocation(COMMON[random.nextInt(COMMON.length)]);
+            candidates.add(job);
+        }
+
+        exact = new LinkedHashSet<>(List.of("java", "developer"));
+        terms = new LinkedHashSet<>(exact);
+        terms.addAll(jobSearchService.expand("java"));
+        terms.addAll(jobSearchService.expand("developer"));
+    }
+
+    @Benchmark
+    public List<String> expandCommonWord() {
+        return jobSearchService.expand("developer");
+    }
+
+    @Benchmark
+    public List<String> expandShortPrefix() {
+        return jobSearchService.expand("de");
+    }
+
+    @Benchmark
+    public List<Job> rankCandidates() {
+        return JobSearchService.rank(candidates, exact, terms, 20);
+    }
+
+    private static String randomWord(Random random) {
+        char[] word = new char[4 + random.nextInt(9)];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(word);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.service.JobTextMatcher.JobTextMatch;
+
+/**
+ * ⏱️ Classifying one job (category, job type, seniority, title skills): the single-pass
+ * KeywordMatcher against the original String.contains loops.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=JobTextMatcher}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobTextMatcherBenchmark {
+
+    private static final String[][] JOBS = {
+        { "Senior Java Developer", "Spring Boot, MongoDB" },
+        { "Software Engineer Intern - Summer 2025", null },
+        { "React Native Developer (Remote)", "" },
+        { "Lead Data Engineer - AWS / Big Data Platform", "python, pandas" },
+        { "QA Automation Engineer", "selenium, java" },
+        { "Contract iOS Developer", null },
+        { "Product Manager, Payments", null },
+        { "Full Stack Engineer (Node.js / TypeScript)", "docker, kubernetes" },
+    };
+
+    private final JobTextMatcher matcher = new JobTextMatcher();
+
+    private int next;
+
+    @Benchmark
+    public JobTextMatch keywordMatcher() {
+        String[] job = nextJob();
+        return matcher.match(job[0], job[1]);
+    }
+
+    @Benchmark
+    public void containsLoops(Blackhole blackhole) {
+        String[] job = nextJob();
+        blackhole.consume(LegacyKeywordClassifier.category(job[0], job[1]));
+        blackhole.consume(LegacyKeywordClassifier.jobType(job[0]));
+        blackhole.consume(LegacyKeywordClassifier.seniorityLevel(job[0]));
+        blackhole.consume(LegacyKeywordClassifier.titleSkills(job[0]));
+    }
+
+    private String[] nextJob() {
+        String[] job = JOBS[next];
+        next = (next + 1) % JOBS.length;
+        return job;
+    }
+}
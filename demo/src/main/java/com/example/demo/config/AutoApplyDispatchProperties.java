@@ -0,0 +1,51 @@
+package com.example.demo.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ⚙️ Worker endpoints and lease settings for dispatched auto-apply runs ({@code jobpilot.autoapply.dispatch.*}).
+ *
+ * With no workers configured, a run is a single {@code /auto-apply/run-once} call to
+ * {@code python.service.base}, as before.
+ */
+@Component
+@ConfigurationProperties(prefix = "jobpilot.autoapply.dispatch")
+public class AutoApplyDispatchProperties {
+
+    // Base URLs of the Python workers, e.g. http://worker-1:5000
+    private List<String> workers = new ArrayList<>();
+
+    // Jobs leased and handed to a worker per call
+    private int batchSize = 5;
+
+    // How long a worker may hold a batch before its unfinished jobs return to the queue
+    private long leaseSeconds = 1800;
+
+    public List<String> getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(List<String> workers) {
+        this.workers = workers;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    public void setLeaseSeconds(long leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🩺 Reports DOWN at {@code /actuator/health} when the unique users {@code email} index could not be built.
+ *
+ * Signup then relies on a lookup before each insert, which does not stop two concurrent signups.
+ */
+@Component
+public class EmailIndexHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private MongoIndexConfig mongoIndexConfig;
+
+    @Override
+    public Health health() {
+        if (mongoIndexConfig.isEmailIndexReady()) {
+            return Health.up().build();
+        }
+        String error = mongoIndexConfig.getEmailIndexError();
+        if (error == null) {
+            // Index build still running in the background
+            return Health.unknown().build();
+        }
+        return Health.down().withDetail("index", "email").withDetail("error", error).build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🩺 Reports DOWN at {@code /actuator/health} when the {@code jobHash_unique} index could not be built.
+ *
+ * Without it ingestion upserts are no longer race-free, so the failure must not stay buried in the log.
+ */
+@Component
+public class JobHashIndexHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private MongoIndexConfig mongoIndexConfig;
+
+    @Override
+    public Health health() {
+        if (mongoIndexConfig.isJobHashIndexReady()) {
+            return Health.up().build();
+        }
+        String error = mongoIndexConfig.getJobHashIndexError();
+        if (error == null) {
+            // Index build still running in the background
+            return Health.unknown().build();
+        }
+        return Health.down().withDetail("index", "jobHash_unique").withDetail("error", error).build();
+    }
+}
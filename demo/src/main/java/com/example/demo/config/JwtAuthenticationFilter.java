@@ -1,6 +1,7 @@
 package com.example.demo.config;
 
 import com.example.demo.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,12 +43,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractEmail(jwt);
+        // Verified once (or served from the verified-token cache); everything below reads these claims
+        final Claims claims = jwtService.verify(jwt);
+        userEmail = claims.getSubject();
         
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
             
-            if (jwtService.validateToken(jwt, userDetails.getUsername())) {
+            if (userDetails.isEnabled() && jwtService.isValidFor(claims, userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
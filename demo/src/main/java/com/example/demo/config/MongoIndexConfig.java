@@ -0,0 +1,183 @@
+package com.example.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.model.AutoApplyRun;
+import com.example.demo.model.ClassificationRuleSet;
+import com.example.demo.model.Job;
+import com.example.demo.model.User;
+import com.example.demo.service.JobHashDeduplication;
+import com.example.demo.service.JobLeaseService;
+
+/**
+ * 🗂️ Creates the indexes the query and ingestion paths rely on.
+ *
+ * Runs in the background once the application is ready so an unreachable database
+ * never blocks startup; failures are logged and retried on the next start. A missing
+ * {@code jobHash_unique} index marks {@code /actuator/health} DOWN (see
+ * {@link JobHashIndexHealthIndicator}); duplicates blocking it are handled by {@link JobHashDeduplication}.
+ * The same goes for the unique users {@code email} index ({@link EmailIndexHealthIndicator}).
+ */
+@Component
+public class MongoIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobHashDeduplication jobHashDeduplication;
+
+    private volatile boolean jobHashIndexReady;
+    private volatile String jobHashIndexError;
+    private volatile boolean emailIndexReady;
+    private volatile String emailIndexError;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        Thread.ofVirtual().name("mongo-index-init").start(() -> {
+            // Signup is a plain insert once this index exists; until then AuthService checks for the email first.
+            // Built before anything else to keep that window short; health stays DOWN until it exists
+            createEmailIndex();
+
+            // Bulk upserts are keyed on jobHash, so it must be unique to stay race-free.
+            // Legacy duplicates fail the build: they are reported (or, when the migration is enabled, removed)
+            // and health stays DOWN until the index exists
+            if (!createJobHashIndex()) {
+                try {
+                    if (jobHashDeduplication.run() > 0) {
+                        createJobHashIndex();
+                    }
+                } catch (Exception e) {
+                    logger.error("❌ jobHash duplicate check failed: {}", e.getMessage());
+                }
+            }
+
+            // Listing/filter queries: equality filters first, then the (postedAt, _id) keyset sort
+            // Experience range keys trail the sort keys: pages stream in order and the range is checked in the index
+            createIndex(Job.class, new Index().on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                    .on("experienceMin", Sort.Direction.ASC).on("experienceMax", Sort.Direction.ASC)
+                    .named("postedAt_id_experience"));
+            // Experience-only filters for selective ranges: bounded scan on experienceMin, then a top-k sort.
+            // The planner races it against postedAt_id_experience, which wins for broad ranges (no sort needed)
+            createIndex(Job.class, new Index().on("experienceMin", Sort.Direction.ASC).on("experienceMax", Sort.Direction.ASC)
+                    .on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC).named("experience_postedAt"));
+            createIndex(Job.class, new Index().on("jobType", Sort.Direction.ASC).on("seniorityLevel", Sort.Direction.ASC)
+                    .on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC).named("jobType_seniority_postedAt"));
+            createIndex(Job.class, new Index().on("seniorityLevel", Sort.Direction.ASC)
+                    .on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC).named("seniority_postedAt"));
+            // Location and company filters are anchored prefixes, so the regex becomes a range on the first key.
+            // The earlier versions had no _id and could not serve the keyset sort
+            dropIndex(Job.class, "location_postedAt");
+            dropIndex(Job.class, "company_postedAt");
+            createIndex(Job.class, new Index().on("location", Sort.Direction.ASC)
+                    .on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC).named("location_postedAt_id"));
+            createIndex(Job.class, new Index().on("company", Sort.Direction.ASC)
+                    .on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC).named("company_postedAt_id"));
+
+            // Apply queue (/api/jobs/unapplied, leasing): only pending jobs are indexed, in queue order
+            createIndex(Job.class, new Index().on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                    .partial(PartialIndexFilter.of(Criteria.where("status").is(JobLeaseService.PENDING)))
+                    .named("pending_queue"));
+            createIndex(Job.class, new Index().on("jobCategory", Sort.Direction.ASC)
+                    .on("postedAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                    .partial(PartialIndexFilter.of(Criteria.where("status").is(JobLeaseService.PENDING)))
+                    .named("pending_category_queue"));
+
+            // Lease reaping and release: only the (few) leased jobs are indexed
+            createIndex(Job.class, new Index().on("leaseExpiresAt", Sort.Direction.ASC)
+                    .partial(PartialIndexFilter.of(Criteria.where("status").is(JobLeaseService.LEASED)))
+                    .named("leased_expiry"));
+
+            // Full-text search (/api/jobs/search); weights rank title hits above skills, company and location
+            createIndex(Job.class, new TextIndexDefinition.TextIndexDefinitionBuilder()
+                    .onField("title", 10F).onField("skills", 5F).onField("company", 3F).onField("location", 2F)
+                    .named("job_text").build());
+
+            // Rule set versions are allocated as max + 1, so concurrent publishes must collide
+            createIndex(ClassificationRuleSet.class, new Index().on("version", Sort.Direction.DESC).unique()
+                    .named("version_unique"));
+
+            // Auto-apply history, newest first
+            createIndex(AutoApplyRun.class, new Index().on("startedAt", Sort.Direction.DESC).named("startedAt"));
+        });
+    }
+
+    private boolean createJobHashIndex() {
+        try {
+            mongoTemplate.indexOps(Job.class).createIndex(
+                    new Index().on("jobHash", Sort.Direction.ASC).unique().named("jobHash_unique"));
+            jobHashIndexError = null;
+            jobHashIndexReady = true;
+            logger.info("🗂️ Index ready: jobHash_unique");
+            return true;
+        } catch (Exception e) {
+            jobHashIndexError = e.getMessage();
+            logger.error("❌ Could not create jobHash_unique, ingestion can store duplicate jobs: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void createEmailIndex() {
+        try {
+            mongoTemplate.indexOps(User.class).createIndex(
+                    new Index().on("email", Sort.Direction.ASC).unique().named("email"));
+            emailIndexError = null;
+            emailIndexReady = true;
+            logger.info("🗂️ Index ready: email");
+        } catch (Exception e) {
+            emailIndexError = e.getMessage();
+            logger.error("❌ Could not create the unique users email index, signup falls back to a lookup: {}", e.getMessage());
+        }
+    }
+
+    public boolean isEmailIndexReady() {
+        return emailIndexReady;
+    }
+
+    public String getEmailIndexError() {
+        return emailIndexError;
+    }
+
+    public boolean isJobHashIndexReady() {
+        return jobHashIndexReady;
+    }
+
+    public String getJobHashIndexError() {
+        return jobHashIndexError;
+    }
+
+    private void createIndex(Class<?> entityClass, IndexDefinition index) {
+        try {
+            String name = mongoTemplate.indexOps(entityClass).createIndex(index);
+            logger.info("🗂️ Index ready: {}", name);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not create index on {}: {}", entityClass.getSimpleName(), e.getMessage());
+        }
+    }
+
+    private void dropIndex(Class<?> entityClass, String name) {
+        try {
+            boolean exists = mongoTemplate.indexOps(entityClass).getIndexInfo().stream()
+                    .anyMatch(info -> info.getName().equals(name));
+            if (!exists) return;
+            mongoTemplate.indexOps(entityClass).dropIndex(name);
+            logger.info("🗑️ Dropped superseded index: {}", name);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not drop index {} on {}: {}", name, entityClass.getSimpleName(), e.getMessage());
+        }
+    }
+}
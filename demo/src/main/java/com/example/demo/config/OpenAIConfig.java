@@ -9,10 +9,24 @@ public class OpenAIConfig {
     @Value("${openai.api.key:}")
     private String apiKey;
 
+    @Value("${openai.api.base-url:https://api.openai.com/v1}")
+    private String baseUrl;
+
+    @Value("${openai.model:gpt-3.5-turbo}")
+    private String model;
+
     public String getApiKey() {
         return apiKey;
     }
 
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
     public boolean isConfigured() {
         return apiKey != null && !apiKey.isBlank();
     }
@@ -0,0 +1,113 @@
+package com.example.demo.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.ScrapeQuery;
+
+/**
+ * ⚙️ Queries and limits for scrape campaigns ({@code jobpilot.campaign.*}).
+ *
+ * Queries can be listed explicitly or generated as the cross product of
+ * {@code roles × locations × experience-filters}.
+ */
+@Component
+@ConfigurationProperties(prefix = "jobpilot.campaign")
+public class ScrapeCampaignProperties {
+
+    private List<ScrapeQuery> queries = new ArrayList<>();
+    private List<String> roles = new ArrayList<>();
+    private List<String> locations = new ArrayList<>();
+    private List<String> experienceFilters = new ArrayList<>();
+    private String posted;
+    private int pages = 1;
+
+    // Max queries in flight at once
+    private int concurrency = 4;
+
+    // Max scraper requests started per second per host
+    private double hostRatePerSecond = 1.0;
+
+    /**
+     * Returns the explicit queries followed by the expanded role × location × experience combinations.
+     */
+    public List<ScrapeQuery> resolveQueries() {
+        List<ScrapeQuery> resolved = new ArrayList<>(queries);
+        List<String> experiences = experienceFilters.isEmpty() ? List.of("all") : experienceFilters;
+        for (String role : roles) {
+            for (String location : locations) {
+                for (String experience : experiences) {
+                    resolved.add(new ScrapeQuery(role, location, experience, posted, pages));
+                }
+            }
+        }
+        return resolved;
+    }
+
+    public List<ScrapeQuery> getQueries() {
+        return queries;
+    }
+
+    public void setQueries(List<ScrapeQuery> queries) {
+        this.queries = queries;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(List<String> roles) {
+        this.roles = roles;
+    }
+
+    public List<String> getLocations() {
+        return locations;
+    }
+
+    public void setLocations(List<String> locations) {
+        this.locations = locations;
+    }
+
+    public List<String> getExperienceFilters() {
+        return experienceFilters;
+    }
+
+    public void setExperienceFilters(List<String> experienceFilters) {
+        this.experienceFilters = experienceFilters;
+    }
+
+    public String getPosted() {
+        return posted;
+    }
+
+    public void setPosted(String posted) {
+        this.posted = posted;
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public void setPages(int pages) {
+        this.pages = pages;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public double getHostRatePerSecond() {
+        return hostRatePerSecond;
+    }
+
+    public void setHostRatePerSecond(double hostRatePerSecond) {
+        this.hostRatePerSecond = hostRatePerSecond;
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.demo.config;
 
+import com.example.demo.controller.JobController;
+import com.example.demo.service.PasswordHashingService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -11,7 +16,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -31,19 +35,27 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsService userDetailsService;
     
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                // Streaming responses re-dispatch asynchronously; the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/actuator/**").permitAll()
                 // Allow scraper-to-backend integration without JWT
-                .requestMatchers("/api/jobs/unapplied").permitAll()
-                .requestMatchers("/api/jobs/*/status").permitAll()
+                .requestMatchers("/api/jobs/unapplied", "/api/jobs/unapplied/claim").permitAll()
+                .requestMatchers("/api/jobs/*/status", "/api/jobs/status:batch").permitAll()
                 .requestMatchers("/api/autoapply/**").permitAll()
+                // Changing the classification rules or relabelling every job is an admin action
+                .requestMatchers(HttpMethod.POST, "/api/classification/rules").hasRole("ADMIN")
+                .requestMatchers("/api/classification/reclassify", "/api/classification/reclassify/**").hasRole("ADMIN")
                 // Everything else requires authentication
                 .anyRequest().authenticated()
             )
@@ -62,6 +74,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173", "http://localhost:3000"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList(JobController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -84,6 +97,7 @@ public class SecurityConfig {
     
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // Same BCrypt cost as login/signup (tuned at startup by PasswordHashingService)
+        return passwordHashingService.getEncoder();
     }
 }
\ No newline at end of file
@@ -1,5 +1,99 @@
 package com.example.demo.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 🌐 Shared HTTP clients for calls to the Python services and OpenAI.
+ */
+@Configuration
 public class WebClientConfig {
 
+    @Value("${jobpilot.scraper.connect-timeout-ms:5000}")
+    private long scraperConnectTimeoutMs;
+
+    @Value("${jobpilot.scraper.read-timeout-ms:600000}")
+    private long scraperReadTimeoutMs;
+
+    @Value("${jobpilot.autoapply.connect-timeout-ms:5000}")
+    private long autoApplyConnectTimeoutMs;
+
+    @Value("${jobpilot.autoapply.read-timeout-ms:1800000}")
+    private long autoApplyReadTimeoutMs;
+
+    @Value("${openai.connect-timeout-ms:5000}")
+    private int openAiConnectTimeoutMs;
+
+    @Value("${openai.response-timeout-ms:60000}")
+    private long openAiResponseTimeoutMs;
+
+    @Value("${openai.max-connections:50}")
+    private int openAiMaxConnections;
+
+    @Value("${openai.pending-acquire-timeout-ms:10000}")
+    private long openAiPendingAcquireTimeoutMs;
+
+    /**
+     * Thread-safe, connection-pooling client for the FastAPI scraper. Scrapes drive a real
+     * browser, so the read timeout is deliberately generous.
+     */
+    @Bean
+    public RestTemplate scraperRestTemplate() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(scraperConnectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(scraperReadTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Client for {@code /auto-apply/run-once}, which blocks for the whole run. Backed by the JDK
+     * client so interrupting the calling thread aborts the request (used by {@code /stop}).
+     */
+    @Bean
+    public RestTemplate autoApplyRestTemplate() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(autoApplyConnectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(autoApplyReadTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Non-blocking client for the OpenAI API, built once so connections (and their TLS sessions)
+     * are reused. Requests beyond {@code openai.max-connections} wait for a free connection up to
+     * {@code openai.pending-acquire-timeout-ms}; the base URL is configurable so tests can point it at a stub.
+     */
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder builder, OpenAIConfig openAIConfig) {
+        ConnectionProvider pool = ConnectionProvider.builder("openai")
+                .maxConnections(openAiMaxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(openAiPendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, openAiConnectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(openAiResponseTimeoutMs));
+        return builder
+                .baseUrl(openAIConfig.getBaseUrl())
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAIConfig.getApiKey())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
 }
@@ -5,6 +5,8 @@ import com.example.demo.dto.AuthResponse;
 import com.example.demo.dto.UserDto;
 import com.example.demo.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,6 +14,9 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -22,26 +27,20 @@ public class AuthController {
     private AuthService authService;
     
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody AuthRequest request) {
+    public CompletableFuture<ResponseEntity<?>> signup(@RequestBody AuthRequest request) {
         try {
-            AuthResponse response = authService.signup(request);
-            return ResponseEntity.ok(response);
+            return authService.signup(request).handle(this::toResponse);
         } catch (Exception e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
+            return CompletableFuture.completedFuture(error(e));
         }
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequest request) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody AuthRequest request) {
         try {
-            AuthResponse response = authService.login(request);
-            return ResponseEntity.ok(response);
+            return authService.login(request).handle(this::toResponse);
         } catch (Exception e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
+            return CompletableFuture.completedFuture(error(e));
         }
     }
     
@@ -66,4 +65,21 @@ public class AuthController {
         response.put("message", "Logged out successfully");
         return ResponseEntity.ok(response);
     }
+    
+    private ResponseEntity<?> toResponse(AuthResponse response, Throwable failure) {
+        if (failure == null) {
+            return ResponseEntity.ok(response);
+        }
+        return error(failure instanceof CompletionException ? failure.getCause() : failure);
+    }
+    
+    private ResponseEntity<?> error(Throwable e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        // Password hashing pool is saturated: ask the client to back off instead of queueing forever
+        if (e instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+        }
+        return ResponseEntity.badRequest().body(error);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ReclassificationReport;
+import com.example.demo.model.ClassificationRuleSet;
+import com.example.demo.service.ClassificationRuleService;
+import com.example.demo.service.JobReclassificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+
+@RestController
+@RequestMapping("/api/classification")
+@CrossOrigin(origins = "*")
+public class ClassificationController {
+
+    @Autowired
+    private ClassificationRuleService classificationRuleService;
+
+    @Autowired
+    private JobReclassificationService jobReclassificationService;
+
+    // 🟢 Active rule set (version 0 = built-in defaults)
+    @GetMapping("/rules")
+    public ClassificationRuleSet getActiveRules() {
+        return classificationRuleService.getActiveRuleSet();
+    }
+
+    // 🟢 Publish a new rule set version; it is compiled, stored and activated immediately
+    @PostMapping("/rules")
+    public ResponseEntity<?> publishRules(@RequestBody ClassificationRuleSet ruleSet) {
+        try {
+            ClassificationRuleSet saved = classificationRuleService.publish(ruleSet);
+            System.out.println("📚 Published classification rules v" + saved.getVersion());
+            return ResponseEntity.ok(saved);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // 🟢 Re-apply the active rules to every stored job (category, job type, seniority) in the background
+    @PostMapping("/reclassify")
+    public ResponseEntity<?> reclassify() {
+        try {
+            ReclassificationReport report = jobReclassificationService.start();
+            System.out.println("🔁 Reclassification started: " + report.getRunId());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/classification/reclassify/" + report.getRunId()))
+                    .body(report);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // 🟢 Status of a reclassification run (counts once it is done)
+    @GetMapping("/reclassify/{runId}")
+    public ResponseEntity<ReclassificationReport> reclassification(@PathVariable String runId) {
+        return ResponseEntity.of(jobReclassificationService.find(runId));
+    }
+}
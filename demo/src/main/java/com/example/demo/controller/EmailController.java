@@ -1,13 +1,44 @@
 package com.example.demo.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+import com.example.demo.dto.EmailRequest;
+import com.example.demo.service.AIService;
+
+import reactor.core.publisher.Mono;
 
 @RestController
 public class EmailController {
 
+    @Autowired
+    private AIService aiService;
+
     @GetMapping("/sendEmail")
     public String sendEmail() {
         return "Email sent!";
     }
+
+    // ✅ DRAFT A COLD EMAIL (OpenAI; the servlet thread is released while waiting)
+    @PostMapping("/api/email/generate")
+    public Mono<ResponseEntity<String>> generateEmail(@RequestBody EmailRequest request) {
+        return aiService.generateEmail(request.getHrName(), request.getCompany(), request.getRole())
+                .map(body -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body))
+                .onErrorResume(IllegalStateException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage())))
+                .onErrorResume(WebClientException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).body("OpenAI request failed: " + reason(e))));
+    }
+
+    // Timeouts carry no message, so fall back to what went wrong
+    private String reason(WebClientException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getMostSpecificCause().getClass().getSimpleName();
+    }
 }
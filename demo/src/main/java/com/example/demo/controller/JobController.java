@@ -1,11 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CampaignReport;
+import com.example.demo.dto.JobFilter;
+import com.example.demo.dto.JobPage;
+import com.example.demo.dto.JobStatusUpdate;
+import com.example.demo.dto.ScrapeQuery;
 import com.example.demo.model.Job;
 import com.example.demo.repository.JobRepository;
+import com.example.demo.service.JobLeaseService;
+import com.example.demo.service.JobQueryService;
+import com.example.demo.service.JobReadCache;
+import com.example.demo.service.JobSearchService;
 import com.example.demo.service.JobService;
+import com.example.demo.service.JobStatusService;
+import com.example.demo.service.ScrapeCampaignService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,17 +30,55 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class JobController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private JobQueryService jobQueryService;
+
+    @Autowired
+    private JobSearchService jobSearchService;
+
     @Autowired
     private JobRepository jobRepository;
 
-    // Fetch unapplied jobs
+    @Autowired
+    private ScrapeCampaignService scrapeCampaignService;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JobStatusService jobStatusService;
+
+    // Fetch unapplied jobs (queue order: newest first, optional category ahead of the rest)
 
     @GetMapping("/unapplied")
-    public List<Job> getUnappliedJobs() {
-        return jobRepository.findByStatusIsNullOrStatus("pending");
+    public ResponseEntity<List<Job>> getUnappliedJobs(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String category,
+            WebRequest request) {
+        int resolved = jobLeaseService.resolveLimit(limit);
+        String etag = jobReadCache.etag(jobService.unappliedKey(resolved, category));
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).body(jobService.getUnappliedJobs(resolved, category));
+    }
+
+    // Claim unapplied jobs: same order, but leased to the caller so no one else gets them
+
+    @PostMapping("/unapplied/claim")
+    public ResponseEntity<List<Job>> claimUnappliedJobs(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String worker) {
+        List<Job> claimed = jobLeaseService.claim(worker, jobLeaseService.resolveLimit(limit), category);
+        System.out.println("🔒 Claimed " + claimed.size() + " jobs for " + (worker == null ? "anonymous" : worker));
+        return ResponseEntity.ok(claimed);
     }
 
    @PatchMapping("/{id}/status")
@@ -38,17 +91,33 @@ public Job updateJobStatus(
     if (jobOpt.isPresent()) {
         Job job = jobOpt.get();
         job.setStatus(status);
+        // The worker is done with the job; drop its dispatch lease
+        job.setLeaseOwner(null);
+        job.setLeaseExpiresAt(null);
 
         if (appliedAt != null && !appliedAt.isEmpty()) {
             job.setAppliedAt(appliedAt);
         }
 
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobReadCache.evictJob(id);
+        return saved;
     } else {
         throw new RuntimeException("Job not found with id: " + id);
     }
 }
 
+    // Update many job statuses in one call (auto-apply results): [{ id, status, appliedAt? }, ...]
+
+    @PatchMapping("/status:batch")
+    public ResponseEntity<?> updateJobStatuses(@RequestBody List<JobStatusUpdate> updates) {
+        try {
+            return ResponseEntity.ok(jobStatusService.updateStatuses(updates));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     
     // 🟢 1️⃣ Trigger scraping with optional filters
     @GetMapping("/scrape")
@@ -80,6 +149,15 @@ public Job updateJobStatus(
         }
     }
 
+    // 🟢 Run a scrape campaign: many queries in parallel (uses jobpilot.campaign.* when body is empty)
+    @PostMapping("/scrape/campaign")
+    public ResponseEntity<CampaignReport> runScrapeCampaign(@RequestBody(required = false) List<ScrapeQuery> queries) {
+        CampaignReport report = (queries == null || queries.isEmpty())
+                ? scrapeCampaignService.runConfiguredCampaign()
+                : scrapeCampaignService.runCampaign(queries);
+        return ResponseEntity.ok(report);
+    }
+
     // 🟢 2️⃣ Add a job manually
     @PostMapping("/add")
     public ResponseEntity<Job> addJob(@RequestBody Job job) {
@@ -87,37 +165,145 @@ public Job updateJobStatus(
         return ResponseEntity.ok(saved);
     }
 
-    // 🟢 3️⃣ Get all saved jobs
+    // 🟢 3️⃣ Get all saved jobs as a JSON array, streamed from a Mongo cursor (constant memory)
+    @GetMapping(params = {"!limit", "!cursor"})
+    public ResponseEntity<StreamingResponseBody> getAllJobs(WebRequest request) {
+        String etag = jobReadCache.etag("all");
+        if (request.checkNotModified(etag)) return null;
+
+        System.out.println("📋 Streaming all jobs from database...");
+        StreamingResponseBody body = out -> jobQueryService.writeAll(out, false);
+        return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 🟢 Get one keyset page of jobs sorted by postedAt; next cursor in X-Next-Cursor
     @GetMapping
-    public ResponseEntity<List<Job>> getAllJobs() {
-        System.out.println("📋 Fetching all jobs from database...");
-        List<Job> jobs = jobService.getAllJobs();
-        return ResponseEntity.ok(jobs);
+    public ResponseEntity<?> getJobPage(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "desc") String direction,
+            WebRequest request
+    ) {
+        JobFilter filter = new JobFilter();
+        filter.setLimit(limit);
+        filter.setCursor(cursor);
+        filter.setDirection(direction);
+
+        String etag = jobReadCache.etag(jobQueryService.cacheKey(filter));
+        if (request.checkNotModified(etag)) return null;
+
+        try {
+            return withNextCursor(jobQueryService.filter(filter), etag);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 🟢 Stream every job as NDJSON (one JSON object per line)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamJobs() {
+        System.out.println("🌊 Streaming all jobs as NDJSON...");
+        StreamingResponseBody body = out -> jobQueryService.writeAll(out, true);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // 🟢 4️⃣ Filter jobs by type, seniority, location, company, title and years of experience (runs as a Mongo query)
+    // Without limit or cursor: every match as a JSON array, streamed from a Mongo cursor
+    @GetMapping(value = "/filter", params = {"!limit", "!cursor"})
+    public ResponseEntity<StreamingResponseBody> filterAllJobs(
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String seniorityLevel,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Integer experience,
+            @RequestParam(required = false, defaultValue = "desc") String direction,
+            WebRequest request
+    ) {
+        JobFilter filter = toFilter(jobType, seniorityLevel, location, company, title, experience, direction);
+
+        // Keyed apart from the paged responses, which share the same filter
+        String etag = jobReadCache.etag("all\u001f" + jobQueryService.cacheKey(filter));
+        if (request.checkNotModified(etag)) return null;
+
+        System.out.println("🔍 Streaming filtered jobs...");
+        try {
+            JobQueryService.JobsWriter jobs = jobQueryService.matchingAll(filter);
+            StreamingResponseBody body = jobs::writeTo;
+            return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (IllegalArgumentException e) {
+            byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(out -> out.write(message));
+        }
     }
 
-    // 🟢 4️⃣ Search by title or company (case-insensitive)
-    // 4️⃣ Filter jobs by type, seniority, and location (without min/max exp)
+    // With limit and/or cursor: up to `limit` jobs sorted by postedAt; X-Next-Cursor carries the cursor for the next page
     @GetMapping("/filter")
-    public ResponseEntity<List<Job>> filterJobs(
+    public ResponseEntity<?> filterJobs(
             @RequestParam(required = false) String jobType,
             @RequestParam(required = false) String seniorityLevel,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String company,
-            @RequestParam(required = false) String title
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Integer experience,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "desc") String direction,
+            WebRequest request
     ) {
+
+        JobFilter filter = toFilter(jobType, seniorityLevel, location, company, title, experience, direction);
+        filter.setLimit(limit);
+        filter.setCursor(cursor);
+
+        // Unchanged since the client's copy: 304 without querying or serializing
+        String etag = jobReadCache.etag(jobQueryService.cacheKey(filter));
+        if (request.checkNotModified(etag)) return null;
+
         System.out.println("🔍 Filtering jobs...");
+        try {
+            JobPage page = jobQueryService.filter(filter);
+            System.out.println("✅ Filtered Jobs Count: " + page.getItems().size());
+            return withNextCursor(page, etag);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        List<Job> jobs = jobService.getAllJobs();
+    // 🟢 5️⃣ Full-text search over title, skills, company and location, best matches first
+    // Query words also match longer words they prefix and close misspellings ("pyth", "devloper")
+    @GetMapping("/search")
+    public ResponseEntity<?> searchJobs(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit
+    ) {
+        System.out.println("🔎 Searching jobs for: " + q);
+        try {
+            return ResponseEntity.ok(jobSearchService.search(q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        List<Job> filtered = jobs.stream()
-                .filter(j -> (jobType == null || j.getJobType().equalsIgnoreCase(jobType)))
-                .filter(j -> (seniorityLevel == null || j.getSeniorityLevel().equalsIgnoreCase(seniorityLevel)))
-                .filter(j -> (location == null || j.getLocation().toLowerCase().contains(location.toLowerCase())))
-                .filter(j -> (company == null || j.getCompany().toLowerCase().contains(company.toLowerCase())))
-                .filter(j -> (title == null || j.getTitle().toLowerCase().contains(title.toLowerCase())))
-                .toList();
+    // -------------- Helpers --------------
+    private static JobFilter toFilter(String jobType, String seniorityLevel, String location, String company,
+                                      String title, Integer experience, String direction) {
+        JobFilter filter = new JobFilter();
+        filter.setJobType(jobType);
+        filter.setSeniorityLevel(seniorityLevel);
+        filter.setLocation(location);
+        filter.setCompany(company);
+        filter.setTitle(title);
+        filter.setExperience(experience);
+        filter.setDirection(direction);
+        return filter;
+    }
 
-        System.out.println("✅ Filtered Jobs Count: " + filtered.size());
-        return ResponseEntity.ok(filtered);
+    private ResponseEntity<List<Job>> withNextCursor(JobPage page, String etag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 }
@@ -0,0 +1,88 @@
+package com.example.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a scrape campaign: wall time, totals and per-query latency.
+ */
+public class CampaignReport {
+
+    private long wallTimeMs;
+    private int queries;
+    private int inserted;
+    private int duplicates;
+    private int failed;
+    private int failedQueries;
+    private List<ScrapeQueryResult> results = new ArrayList<>();
+
+    public CampaignReport() {}
+
+    public CampaignReport(long wallTimeMs, List<ScrapeQueryResult> results) {
+        this.wallTimeMs = wallTimeMs;
+        this.results = results;
+        this.queries = results.size();
+        for (ScrapeQueryResult result : results) {
+            inserted += result.getInserted();
+            duplicates += result.getDuplicates();
+            failed += result.getFailed();
+            if (result.getError() != null) failedQueries++;
+        }
+    }
+
+    public long getWallTimeMs() {
+        return wallTimeMs;
+    }
+
+    public void setWallTimeMs(long wallTimeMs) {
+        this.wallTimeMs = wallTimeMs;
+    }
+
+    public int getQueries() {
+        return queries;
+    }
+
+    public void setQueries(int queries) {
+        this.queries = queries;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public int getFailedQueries() {
+        return failedQueries;
+    }
+
+    public void setFailedQueries(int failedQueries) {
+        this.failedQueries = failedQueries;
+    }
+
+    public List<ScrapeQueryResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ScrapeQueryResult> results) {
+        this.results = results;
+    }
+}
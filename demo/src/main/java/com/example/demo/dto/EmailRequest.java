@@ -1,5 +1,43 @@
 package com.example.demo.dto;
 
+/**
+ * Who a generated cold email is addressed to, and for which role.
+ */
 public class EmailRequest {
 
+    private String hrName;
+    private String company;
+    private String role;
+
+    public EmailRequest() {}
+
+    public EmailRequest(String hrName, String company, String role) {
+        this.hrName = hrName;
+        this.company = company;
+        this.role = role;
+    }
+
+    public String getHrName() {
+        return hrName;
+    }
+
+    public void setHrName(String hrName) {
+        this.hrName = hrName;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
 }
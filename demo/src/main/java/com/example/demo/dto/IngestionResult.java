@@ -0,0 +1,69 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Job;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of ingesting one or more batches of scraped jobs.
+ */
+public class IngestionResult {
+
+    private int inserted;
+    private int duplicates;
+    private int failed;
+    private List<Job> savedJobs = new ArrayList<>();
+
+    public IngestionResult() {}
+
+    public IngestionResult(int inserted, int duplicates, int failed, List<Job> savedJobs) {
+        this.inserted = inserted;
+        this.duplicates = duplicates;
+        this.failed = failed;
+        this.savedJobs = savedJobs;
+    }
+
+    /**
+     * Adds the counts and saved jobs of another batch to this result.
+     */
+    public IngestionResult merge(IngestionResult other) {
+        this.inserted += other.inserted;
+        this.duplicates += other.duplicates;
+        this.failed += other.failed;
+        this.savedJobs.addAll(other.savedJobs);
+        return this;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<Job> getSavedJobs() {
+        return savedJobs;
+    }
+
+    public void setSavedJobs(List<Job> savedJobs) {
+        this.savedJobs = savedJobs;
+    }
+}
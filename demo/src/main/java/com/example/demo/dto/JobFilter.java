@@ -0,0 +1,89 @@
+package com.example.demo.dto;
+
+/**
+ * Filter, sort and keyset-pagination parameters for job listing queries.
+ */
+public class JobFilter {
+
+    private String jobType;
+    private String seniorityLevel;
+    private String location;
+    private String company;
+    private String title;
+    private Integer experience;
+    private Integer limit;
+    private String cursor;
+    private String direction;
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(String jobType) {
+        this.jobType = jobType;
+    }
+
+    public String getSeniorityLevel() {
+        return seniorityLevel;
+    }
+
+    public void setSeniorityLevel(String seniorityLevel) {
+        this.seniorityLevel = seniorityLevel;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Integer getExperience() {
+        return experience;
+    }
+
+    public void setExperience(Integer experience) {
+        this.experience = experience;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+}
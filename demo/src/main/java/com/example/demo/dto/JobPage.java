@@ -0,0 +1,37 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Job;
+
+import java.util.List;
+
+/**
+ * One page of jobs plus the opaque cursor for the next page ({@code null} on the last page).
+ */
+public class JobPage {
+
+    private List<Job> items;
+    private String nextCursor;
+
+    public JobPage() {}
+
+    public JobPage(List<Job> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Job> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Job> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
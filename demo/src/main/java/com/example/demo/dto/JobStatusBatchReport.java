@@ -0,0 +1,60 @@
+package com.example.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a batch status update: counts, plus one result per submitted item in request order.
+ */
+public class JobStatusBatchReport {
+
+    private int updated;
+    private int notFound;
+    private int failed;
+    private List<JobStatusUpdateResult> results = new ArrayList<>();
+
+    public JobStatusBatchReport() {}
+
+    public JobStatusBatchReport(List<JobStatusUpdateResult> results) {
+        this.results = results;
+        for (JobStatusUpdateResult result : results) {
+            switch (result.getResult()) {
+                case JobStatusUpdateResult.UPDATED -> updated++;
+                case JobStatusUpdateResult.NOT_FOUND -> notFound++;
+                default -> failed++;
+            }
+        }
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(int notFound) {
+        this.notFound = notFound;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<JobStatusUpdateResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<JobStatusUpdateResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.dto;
+
+/**
+ * One item of a batch status update: the job, its new status and (optionally) when it was applied to.
+ */
+public class JobStatusUpdate {
+
+    private String id;
+    private String status;
+    private String appliedAt;
+
+    public JobStatusUpdate() {}
+
+    public JobStatusUpdate(String id, String status, String appliedAt) {
+        this.id = id;
+        this.status = status;
+        this.appliedAt = appliedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(String appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.dto;
+
+/**
+ * What happened to one item of a batch status update: {@code updated}, {@code not_found},
+ * {@code invalid} or {@code failed} (with a message for the last two).
+ */
+public class JobStatusUpdateResult {
+
+    public static final String UPDATED = "updated";
+    public static final String NOT_FOUND = "not_found";
+    public static final String INVALID = "invalid";
+    public static final String FAILED = "failed";
+
+    private String id;
+    private String result;
+    private String message;
+
+    public JobStatusUpdateResult() {}
+
+    public JobStatusUpdateResult(String id, String result, String message) {
+        this.id = id;
+        this.result = result;
+        this.message = message;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.dto;
+
+/**
+ * Status and summary of a background run applying a classification rule set to the stored jobs.
+ * The counts are filled in once {@code status} is {@code done}.
+ */
+public class ReclassificationReport {
+
+    public static final String RUNNING = "running";
+    public static final String DONE = "done";
+    public static final String FAILED = "failed";
+
+    private String runId;
+    private String status;
+    private String error;
+    private long ruleVersion;
+    private long scanned;
+    private long updated;
+    private long wallTimeMs;
+
+    public ReclassificationReport() {}
+
+    public ReclassificationReport(String runId, String status, long ruleVersion) {
+        this.runId = runId;
+        this.status = status;
+        this.ruleVersion = ruleVersion;
+    }
+
+    public ReclassificationReport(String runId, long ruleVersion, long scanned, long updated, long wallTimeMs) {
+        this.runId = runId;
+        this.status = DONE;
+        this.ruleVersion = ruleVersion;
+        this.scanned = scanned;
+        this.updated = updated;
+        this.wallTimeMs = wallTimeMs;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public long getRuleVersion() {
+        return ruleVersion;
+    }
+
+    public void setRuleVersion(long ruleVersion) {
+        this.ruleVersion = ruleVersion;
+    }
+
+    public long getScanned() {
+        return scanned;
+    }
+
+    public void setScanned(long scanned) {
+        this.scanned = scanned;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public long getWallTimeMs() {
+        return wallTimeMs;
+    }
+
+    public void setWallTimeMs(long wallTimeMs) {
+        this.wallTimeMs = wallTimeMs;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.dto;
+
+/**
+ * One role/location/experience combination to scrape.
+ */
+public class ScrapeQuery {
+
+    private String role;
+    private String location;
+    private String experienceFilter;
+    private String posted;
+    private int pages = 1;
+
+    public ScrapeQuery() {}
+
+    public ScrapeQuery(String role, String location, String experienceFilter, String posted, int pages) {
+        this.role = role;
+        this.location = location;
+        this.experienceFilter = experienceFilter;
+        this.posted = posted;
+        this.pages = pages;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getExperienceFilter() {
+        return experienceFilter;
+    }
+
+    public void setExperienceFilter(String experienceFilter) {
+        this.experienceFilter = experienceFilter;
+    }
+
+    public String getPosted() {
+        return posted;
+    }
+
+    public void setPosted(String posted) {
+        this.posted = posted;
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public void setPages(int pages) {
+        this.pages = pages;
+    }
+
+    @Override
+    public String toString() {
+        return role + " @ " + location + " (exp=" + experienceFilter + ", posted=" + posted + ", pages=" + pages + ")";
+    }
+}
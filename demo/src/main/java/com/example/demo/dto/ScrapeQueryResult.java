@@ -0,0 +1,77 @@
+package com.example.demo.dto;
+
+/**
+ * Outcome and latency of a single query within a scrape campaign.
+ */
+public class ScrapeQueryResult {
+
+    private ScrapeQuery query;
+    private long latencyMs;
+    private int fetched;
+    private int inserted;
+    private int duplicates;
+    private int failed;
+    private String error;
+
+    public ScrapeQueryResult() {}
+
+    public ScrapeQueryResult(ScrapeQuery query) {
+        this.query = query;
+    }
+
+    public ScrapeQuery getQuery() {
+        return query;
+    }
+
+    public void setQuery(ScrapeQuery query) {
+        this.query = query;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public int getFetched() {
+        return fetched;
+    }
+
+    public void setFetched(int fetched) {
+        this.fetched = fetched;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Versioned keyword rules used to derive skills, category, job type and seniority.
+ * Rule lists are ordered: the first rule with a matching keyword wins.
+ */
+@Document(collection = "classification_rules")
+public class ClassificationRuleSet {
+
+    @Id
+    private String id;
+
+    private long version;
+    private LocalDateTime createdAt;
+
+    // Checked against title + skills
+    private List<KeywordRule> categories = new ArrayList<>();
+    private String defaultCategory;
+
+    // Checked against the title only
+    private List<KeywordRule> jobTypes = new ArrayList<>();
+    private String defaultJobType;
+    private List<KeywordRule> seniorityLevels = new ArrayList<>();
+    private String defaultSeniorityLevel;
+
+    // Detected in the title when the scraper supplied no skills
+    private List<String> skills = new ArrayList<>();
+
+    /**
+     * 🧩 The rules the application shipped with, used until a rule set is published (version 0).
+     */
+    public static ClassificationRuleSet defaults() {
+        ClassificationRuleSet rules = new ClassificationRuleSet();
+        rules.setVersion(0);
+        rules.setCategories(List.of(
+            new KeywordRule("Internship", List.of("intern")),
+            new KeywordRule("Frontend Development", List.of("react", "angular", "vue", "javascript", "typescript", "frontend", "html", "css")),
+            new KeywordRule("Backend Development", List.of("java", "spring", "node", "express", "django", "flask", "backend", "api")),
+            new KeywordRule("Data Science / ML", List.of("data", "ml", "ai", "machine learning", "deep learning", "python", "pandas", "numpy")),
+            new KeywordRule("DevOps / Cloud", List.of("aws", "docker", "kubernetes", "jenkins", "terraform", "azure", "ci/cd")),
+            new KeywordRule("Mobile Development", List.of("android", "flutter", "react native", "ios")),
+            new KeywordRule("QA / Testing", List.of("qa", "test", "selenium", "automation", "manual testing"))
+        ));
+        rules.setDefaultCategory("General Tech");
+        rules.setJobTypes(List.of(
+            new KeywordRule("Internship", List.of("intern", "internship")),
+            new KeywordRule("Contract", List.of("contract")),
+            new KeywordRule("Remote", List.of("remote"))
+        ));
+        rules.setDefaultJobType("Full-time");
+        rules.setSeniorityLevels(List.of(
+            new KeywordRule("Senior", List.of("senior", "lead")),
+            new KeywordRule("Junior", List.of("junior", "fresher"))
+        ));
+        rules.setDefaultSeniorityLevel("Mid-level");
+        rules.setSkills(List.of(
+            "java", "python", "react", "node", "spring boot", "sql", "mongodb", "aws",
+            "javascript", "typescript", "docker", "kubernetes", "html", "css", "express",
+            "c++", "c#", "next.js", "flutter", "android", "django", "flask", "git"
+        ));
+        return rules;
+    }
+
+    // Getters and Setters
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<KeywordRule> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<KeywordRule> categories) {
+        this.categories = categories;
+    }
+
+    public String getDefaultCategory() {
+        return defaultCategory;
+    }
+
+    public void setDefaultCategory(String defaultCategory) {
+        this.defaultCategory = defaultCategory;
+    }
+
+    public List<KeywordRule> getJobTypes() {
+        return jobTypes;
+    }
+
+    public void setJobTypes(List<KeywordRule> jobTypes) {
+        this.jobTypes = jobTypes;
+    }
+
+    public String getDefaultJobType() {
+        return defaultJobType;
+    }
+
+    public void setDefaultJobType(String defaultJobType) {
+        this.defaultJobType = defaultJobType;
+    }
+
+    public List<KeywordRule> getSeniorityLevels() {
+        return seniorityLevels;
+    }
+
+    public void setSeniorityLevels(List<KeywordRule> seniorityLevels) {
+        this.seniorityLevels = seniorityLevels;
+    }
+
+    public String getDefaultSeniorityLevel() {
+        return defaultSeniorityLevel;
+    }
+
+    public void setDefaultSeniorityLevel(String defaultSeniorityLevel) {
+        this.defaultSeniorityLevel = defaultSeniorityLevel;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+}
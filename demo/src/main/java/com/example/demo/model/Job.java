@@ -8,6 +8,8 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 
+import org.springframework.data.mongodb.core.mapping.Field;
+
 
 import java.time.LocalDateTime;
 
@@ -26,6 +28,11 @@ public class Job {
     private String location;
     private String company;
     private String experience;
+    // Always written, even when null: an explicit null marks the experience text as already parsed
+    @Field(write = Field.Write.ALWAYS)
+    private Integer experienceMin;
+    @Field(write = Field.Write.ALWAYS)
+    private Integer experienceMax;
     private LocalDateTime postedAt;
     private String jobHash;
     private String skills;
@@ -36,6 +43,9 @@ public class Job {
     private String jobCategory;
     private String status;
     private String appliedAt;
+    // Set while a dispatched worker holds the job (status "leased")
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
     // private Integer salary;
     // private Integer openings;
     // private Integer applicants;
@@ -97,6 +107,22 @@ public class Job {
         this.experience = experience;
     }
 
+    public Integer getExperienceMin() {
+        return experienceMin;
+    }
+
+    public void setExperienceMin(Integer experienceMin) {
+        this.experienceMin = experienceMin;
+    }
+
+    public Integer getExperienceMax() {
+        return experienceMax;
+    }
+
+    public void setExperienceMax(Integer experienceMax) {
+        this.experienceMax = experienceMax;
+    }
+
     public LocalDateTime getPostedAt() {
         return postedAt;
     }
@@ -175,6 +201,18 @@ public class Job {
     public void setAppliedAt(String appliedAt) {
         this.appliedAt = appliedAt;
     }
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
 
     // public Integer getSalary() {
     //     return salary;
@@ -0,0 +1,36 @@
+package com.example.demo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A label assigned when any of its keywords occurs in the job text.
+ */
+public class KeywordRule {
+
+    private String label;
+    private List<String> keywords = new ArrayList<>();
+
+    public KeywordRule() {}
+
+    public KeywordRule(String label, List<String> keywords) {
+        this.label = label;
+        this.keywords = new ArrayList<>(keywords);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public void setKeywords(List<String> keywords) {
+        this.keywords = keywords;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.demo.model;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
-import org.springframework.data.mongodb.core.index.Indexed;
 import java.time.LocalDateTime;
 
 @Document(collection = "users")
@@ -11,7 +10,7 @@ public class User {
     @Id
     private String id;
     
-    @Indexed(unique = true)
+    // Unique index created by MongoIndexConfig (auto-index-creation is off)
     private String email;
     
     private String password;
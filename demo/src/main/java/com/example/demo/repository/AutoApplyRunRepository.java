@@ -0,0 +1,16 @@
+package com.example.demo.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.example.demo.model.AutoApplyRun;
+
+public interface AutoApplyRunRepository extends MongoRepository<AutoApplyRun, String> {
+
+    List<AutoApplyRun> findAllByOrderByStartedAtDesc(Pageable pageable);
+
+    Optional<AutoApplyRun> findTopByOrderByStartedAtDesc();
+}
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.example.demo.model.ClassificationRuleSet;
+
+public interface ClassificationRuleSetRepository extends MongoRepository<ClassificationRuleSet, String> {
+
+    Optional<ClassificationRuleSet> findTopByOrderByVersionDesc();
+}
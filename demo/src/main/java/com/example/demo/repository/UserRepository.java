@@ -2,11 +2,26 @@ package com.example.demo.repository;
 
 import com.example.demo.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
+
+    // Signup fallback while the unique email index is not confirmed
     boolean existsByEmail(String email);
+
+    // Login: credentials, status and the profile returned with the token (no timestamps)
+    @Query(value = "{ 'email': ?0 }", fields = "{ 'email': 1, 'password': 1, 'isActive': 1, 'firstName': 1, 'lastName': 1, 'role': 1 }")
+    Optional<User> findLoginByEmail(String email);
+
+    // Profile only, for /api/auth/me
+    @Query(value = "{ 'email': ?0 }", fields = "{ 'email': 1, 'firstName': 1, 'lastName': 1, 'role': 1 }")
+    Optional<User> findProfileByEmail(String email);
+
+    // What Spring Security needs to build a principal (role becomes its authority)
+    @Query(value = "{ 'email': ?0 }", fields = "{ 'email': 1, 'password': 1, 'isActive': 1, 'role': 1 }")
+    Optional<User> findCredentialsByEmail(String email);
 }
\ No newline at end of file
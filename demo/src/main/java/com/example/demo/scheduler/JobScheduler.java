@@ -3,35 +3,29 @@ package com.example.demo.scheduler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import com.example.demo.service.JobService;
+import com.example.demo.dto.CampaignReport;
+import com.example.demo.service.ScrapeCampaignService;
 
 @Component
 public class JobScheduler {
 
     @Autowired
-    private JobService jobService;
+    private ScrapeCampaignService scrapeCampaignService;
 
     /**
      * ⏰ Runs every day at 9 AM (cron format: second minute hour day month weekday)
      * 0 0 9 * * ? → every day at 9:00 AM
+     *
+     * Role/location/experience combinations come from {@code jobpilot.campaign.*}.
      */
     @Scheduled(cron = "0 0 9 * * ?")
     public void runDailyJobSearch() {
-        // You can make these dynamic later via application.yml or DB config
-        String role = "Software Engineer";
-        String location = "Bangalore";
-        String experienceFilter = "0-1";  // Filter fresher / entry-level roles
-        String posted = "7days";          // Only fetch jobs from last 7 days
-        int pages = 3;                    // Number of pages to scrape per run
-
-        System.out.println("🕘 [Scheduler] Starting automated job scrape...");
-        System.out.println("🔍 Role: " + role + ", Location: " + location +
-                           ", Experience: " + experienceFilter + ", Posted: " + posted);
+        System.out.println("🕘 [Scheduler] Starting automated scrape campaign...");
 
         try {
-            // Call the updated JobService method
-            jobService.scrapeJobs(role, location, experienceFilter, posted, pages);
-            System.out.println("✅ [Scheduler] Daily Job Scraping Completed Successfully!");
+            CampaignReport report = scrapeCampaignService.runConfiguredCampaign();
+            System.out.println("✅ [Scheduler] Daily Job Scraping Completed: " + report.getQueries() + " queries, "
+                    + report.getInserted() + " new jobs in " + report.getWallTimeMs() + " ms");
         } catch (Exception e) {
             System.err.println("❌ [Scheduler] Error during scheduled scraping: " + e.getMessage());
             e.printStackTrace();
@@ -1,43 +1,48 @@
-
 package com.example.demo.service;
 
-import org.springframework.web.reactive.function.client.WebClient;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import com.example.demo.config.OpenAIConfig;
 
+import reactor.core.publisher.Mono;
+
+/**
+ * 🤖 Drafts recruiter emails with OpenAI Chat Completions.
+ *
+ * Uses the shared {@code openAiWebClient} and never blocks: callers get a {@link Mono} of the
+ * raw Chat Completions response. The request body is serialized by Jackson, so quotes or
+ * newlines in names are escaped properly.
+ */
 @Service
 public class AIService {
 
     @Autowired
     private OpenAIConfig openAIConfig;
 
-    public String generateEmail(String hrName, String company, String role) {
+    @Autowired
+    private WebClient openAiWebClient;
+
+    public Mono<String> generateEmail(String hrName, String company, String role) {
         if (!openAIConfig.isConfigured()) {
-            throw new IllegalStateException("OpenAI API key is not configured. Set OPENAI_API_KEY env var or openai.api.key property.");
+            return Mono.error(new IllegalStateException("OpenAI API key is not configured. Set OPENAI_API_KEY env var or openai.api.key property."));
         }
         String prompt = "Write a professional cold email to " + hrName +
                         " at " + company + " for the " + role + " position.";
 
-        WebClient client = WebClient.builder()
-            .baseUrl("https://api.openai.com/v1/chat/completions")
-            .defaultHeader("Authorization", "Bearer " + openAIConfig.getApiKey())
-            .build();
-
-        String response = client.post()
-            .bodyValue("""
-                {
-                  "model": "gpt-3.5-turbo",
-                  "messages": [{"role": "user", "content": "%s"}]
-                }
-            """.formatted(prompt))
-            .retrieve()
-            .bodyToMono(String.class)
-            .block();
+        Map<String, Object> request = Map.of(
+                "model", openAIConfig.getModel(),
+                "messages", List.of(Map.of("role", "user", "content", prompt)));
 
-        return response;
+        return openAiWebClient.post()
+            .uri("/chat/completions")
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(String.class);
     }
 
 }
@@ -1,38 +1,62 @@
 package com.example.demo.service;
 
+import com.example.demo.config.MongoIndexConfig;
 import com.example.demo.dto.AuthRequest;
 import com.example.demo.dto.AuthResponse;
 import com.example.demo.dto.UserDto;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 🔐 Signup and login. Password hashing runs on {@link PasswordHashingService}'s pool, so both
+ * return futures that fail with a {@link java.util.concurrent.RejectedExecutionException} when it is saturated.
+ */
 @Service
 public class AuthService {
     
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+    
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private PasswordHashingService passwordHashingService;
     
     @Autowired
     private JwtService jwtService;
     
-    public AuthResponse signup(AuthRequest request) {
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already registered");
-        }
-        
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+    
+    @Autowired
+    private MongoIndexConfig mongoIndexConfig;
+    
+    public CompletableFuture<AuthResponse> signup(AuthRequest request) {
+        // Once the unique email index exists it rejects a duplicate on insert (see insertUser)
+        return passwordHashingService.encode(request.getPassword())
+                .thenApply(hash -> createUser(request, hash));
+    }
+    
+    private AuthResponse createUser(AuthRequest request, String passwordHash) {
         // Create new user
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHash);
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setRole("USER");
@@ -40,7 +64,7 @@ public class AuthService {
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
         
-        User savedUser = userRepository.save(user);
+        User savedUser = insertUser(user);
         
         // Generate JWT token
         String token = jwtService.generateToken(savedUser.getEmail());
@@ -57,9 +81,9 @@ public class AuthService {
         return new AuthResponse(token, userDto);
     }
     
-    public AuthResponse login(AuthRequest request) {
+    public CompletableFuture<AuthResponse> login(AuthRequest request) {
         // Find user by email
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findLoginByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("Invalid email or password"));
         
         // Check if user is active
@@ -68,10 +92,19 @@ public class AuthService {
         }
         
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid email or password");
-        }
-        
+        return passwordHashingService.matches(request.getPassword(), user.getPassword())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new RuntimeException("Invalid email or password");
+                    }
+                    if (passwordHashingService.needsRehash(user.getPassword())) {
+                        rehash(user, request.getPassword());
+                    }
+                    return loggedIn(user);
+                });
+    }
+    
+    private AuthResponse loggedIn(User user) {
         // Generate JWT token
         String token = jwtService.generateToken(user.getEmail());
         
@@ -88,7 +121,7 @@ public class AuthService {
     }
     
     public UserDto getCurrentUser(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findProfileByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
         return new UserDto(
@@ -99,4 +132,38 @@ public class AuthService {
             user.getRole()
         );
     }
+    
+    // Upgrades an old, cheaper hash now that we know the password; the login does not wait for it
+    private void rehash(User user, String rawPassword) {
+        String oldHash = user.getPassword();
+        passwordHashingService.encode(rawPassword)
+                .thenAccept(newHash -> {
+                    // Only if the password was not changed in the meantime
+                    Query query = new Query(Criteria.where("email").is(user.getEmail()).and("password").is(oldHash));
+                    Update update = new Update().set("password", newHash).set("updatedAt", LocalDateTime.now());
+                    if (mongoTemplate.updateFirst(query, update, User.class).getModifiedCount() > 0) {
+                        userDetailsService.evict(user.getEmail());
+                        logger.info("🔐 Upgraded password hash for {}", user.getEmail());
+                    }
+                })
+                .exceptionally(e -> {
+                    // Pool busy or write failed: the next login tries again
+                    logger.warn("⚠️ Could not upgrade password hash for {}: {}", user.getEmail(), e.getMessage());
+                    return null;
+                });
+    }
+    
+    // One round trip once the email index is confirmed; the cached security principal is dropped so it never outlives a change
+    private User insertUser(User user) {
+        if (!mongoIndexConfig.isEmailIndexReady() && userRepository.existsByEmail(user.getEmail())) {
+            throw new RuntimeException("Email already registered");
+        }
+        try {
+            User saved = userRepository.insert(user);
+            userDetailsService.evict(saved.getEmail());
+            return saved;
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("Email already registered");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.example.demo.service;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.demo.config.AutoApplyDispatchProperties;
+import com.example.demo.model.Job;
+
+/**
+ * 🚚 Spreads an auto-apply run over the configured Python workers.
+ *
+ * Each worker loops on its own virtual thread: lease a batch, POST it to the worker's
+ * {@code /auto-apply/run-batch}, then release whatever the worker left unfinished. Workers
+ * draw from one shared budget (the run's limit) and every job is attempted at most once per
+ * run. A batch comes back to the queue at once when the worker rejects it or cannot be reached.
+ * Interrupting the dispatching thread cancels all worker calls; since a worker may keep applying
+ * after the connection drops (or a read times out), those leases are left to expire rather than released.
+ */
+@Service
+public class AutoApplyDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoApplyDispatcher.class);
+
+    @Autowired
+    private AutoApplyDispatchProperties dispatchProperties;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private RestTemplate autoApplyRestTemplate;
+
+    public boolean isEnabled() {
+        return !dispatchProperties.getWorkers().isEmpty();
+    }
+
+    /**
+     * 🟢 Applies to up to {@code limit} jobs across all workers; returns the combined {@code processed}/{@code successful}.
+     * Throws {@link IllegalStateException} if every worker failed.
+     */
+    public Map<String, Object> dispatch(String runId, int limit) throws InterruptedException {
+        AtomicInteger budget = new AtomicInteger(limit);
+        Set<String> attempted = ConcurrentHashMap.newKeySet();
+
+        List<String> workers = dispatchProperties.getWorkers();
+        List<Callable<int[]>> tasks = new ArrayList<>(workers.size());
+        for (String worker : workers) {
+            tasks.add(() -> drive(runId, worker, budget, attempted));
+        }
+
+        List<Future<int[]>> results;
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("autoapply-worker-", 0).factory())) {
+            results = executor.invokeAll(tasks);
+        }
+
+        int processed = 0;
+        int successful = 0;
+        int failed = 0;
+        String lastError = null;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                int[] counts = results.get(i).get();
+                processed += counts[0];
+                successful += counts[1];
+            } catch (ExecutionException e) {
+                failed++;
+                lastError = e.getCause().getMessage();
+                logger.warn("⚠️ Worker {} failed during run {}: {}", workers.get(i), runId, lastError);
+            }
+        }
+        if (failed == workers.size()) {
+            throw new IllegalStateException("All " + failed + " workers failed, last error: " + lastError);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("processed", processed);
+        result.put("successful", successful);
+        return result;
+    }
+
+    /**
+     * Feeds one worker batches until the budget or the queue runs out; returns {processed, successful}.
+     */
+    private int[] drive(String runId, String worker, AtomicInteger budget, Set<String> attempted) {
+        String owner = runId + ":" + worker;
+        Duration ttl = Duration.ofSeconds(dispatchProperties.getLeaseSeconds());
+        int processed = 0;
+        int successful = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            int wanted = claim(budget, dispatchProperties.getBatchSize());
+            if (wanted == 0) break;
+
+            List<Job> batch = jobLeaseService.lease(owner, wanted, ttl, attempted);
+            budget.addAndGet(wanted - batch.size());
+            if (batch.isEmpty()) break;
+
+            List<Map<String, Object>> jobs = new ArrayList<>(batch.size());
+            for (Job job : batch) {
+                attempted.add(job.getId());
+                Map<String, Object> item = new HashMap<>();
+                item.put("id", job.getId());
+                item.put("title", job.getTitle());
+                item.put("url", job.getUrl());
+                item.put("company", job.getCompany());
+                jobs.add(item);
+            }
+
+            int[] counts;
+            try {
+                counts = runBatch(runId, worker, jobs);
+            } catch (RestClientResponseException e) {
+                // The worker answered with an error, so it is done with the batch
+                budget.addAndGet((int) jobLeaseService.release(owner));
+                throw e;
+            } catch (ResourceAccessException e) {
+                // Only a failed connect means the worker never got the batch; after a read timeout
+                // it may still be applying, so those leases are left to expire
+                if (neverSent(e)) budget.addAndGet((int) jobLeaseService.release(owner));
+                throw e;
+            }
+            processed += counts[0];
+            successful += counts[1];
+
+            // Jobs the worker did not get to go back to the queue, and their share of the budget to other workers
+            budget.addAndGet((int) jobLeaseService.release(owner));
+        }
+        return new int[] { processed, successful };
+    }
+
+    @SuppressWarnings("unchecked")
+    private int[] runBatch(String runId, String worker, List<Map<String, Object>> jobs) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("runId", runId);
+        request.put("workerId", worker);
+        request.put("jobs", jobs);
+
+        ResponseEntity<Map> response = autoApplyRestTemplate.postForEntity(worker + "/auto-apply/run-batch", request, Map.class);
+        Map<String, Object> body = response.getBody();
+        if (body == null) return new int[] { 0, 0 };
+        Object counts = body.get("result") instanceof Map<?, ?> result ? result : body;
+        Map<?, ?> values = (Map<?, ?>) counts;
+        return new int[] { asInt(values.get("processed")), asInt(values.get("successful")) };
+    }
+
+    // Refused, unresolvable, unreachable or timed out while connecting: the request never left this side
+    private static boolean neverSent(ResourceAccessException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException
+                    || cause instanceof UnknownHostException || cause instanceof NoRouteToHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Takes up to batchSize from the shared budget
+    private static int claim(AtomicInteger budget, int batchSize) {
+        while (true) {
+            int remaining = budget.get();
+            if (remaining <= 0) return 0;
+            int taken = Math.min(remaining, Math.max(1, batchSize));
+            if (budget.compareAndSet(remaining, remaining - taken)) return taken;
+        }
+    }
+
+    private int asInt(Object value) {
+        if (value instanceof Number) return ((Number) value).intValue();
+        if (value instanceof String) {
+            try { return Integer.parseInt((String) value); } catch (Exception ignored) {}
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 📡 Pushes auto-apply progress to Server-Sent Event subscribers.
+ *
+ * Every subscriber owns a bounded queue drained by its own virtual thread, so publishing
+ * never blocks on a slow client. When a queue is full the oldest event is dropped: each
+ * event is a full status snapshot, so only the latest one matters.
+ */
+@Service
+public class AutoApplyProgressBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoApplyProgressBroadcaster.class);
+
+    private static final Object HEARTBEAT = new Object();
+
+    @Value("${jobpilot.autoapply.sse.buffer-size:16}")
+    private int bufferSize;
+
+    @Value("${jobpilot.autoapply.sse.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${jobpilot.autoapply.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Reserved before a subscriber is registered and released once when it closes, so the cap holds under concurrent subscribes
+    private final AtomicInteger slots = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 🟢 Registers a new SSE client and queues {@code initial} as its first event.
+     * Throws {@link IllegalStateException} when the subscriber limit is reached.
+     */
+    public SseEmitter subscribe(Map<String, Object> initial) {
+        if (!reserveSlot()) {
+            throw new IllegalStateException("Too many progress subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(Math.max(1, bufferSize)));
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscriber.offer(new Event(eventIds.incrementAndGet(), initial));
+        // Publish the sender before it runs, so a close() racing the first send can always interrupt it
+        Thread sender = Thread.ofVirtual().name("autoapply-sse").unstarted(subscriber::drain);
+        subscriber.sender = sender;
+        sender.start();
+        return emitter;
+    }
+
+    private boolean reserveSlot() {
+        int taken;
+        do {
+            taken = slots.get();
+            if (taken >= maxSubscribers) return false;
+        } while (!slots.compareAndSet(taken, taken + 1));
+        return true;
+    }
+
+    /**
+     * 🟢 Queues a progress snapshot for every subscriber; never blocks.
+     */
+    public void publish(Map<String, Object> snapshot) {
+        Event event = new Event(eventIds.incrementAndGet(), snapshot);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * 💓 Keeps idle connections alive through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${jobpilot.autoapply.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    /**
+     * 🛑 Ends every open stream so graceful shutdown does not wait on them; clients reconnect to the next instance.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void completeAll() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedEvents() {
+        return dropped.get();
+    }
+
+    private record Event(long id, Map<String, Object> data) {}
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private volatile Thread sender;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        void offer(Object event) {
+            while (!queue.offer(event)) {
+                // Full: drop the oldest snapshot in favour of the newest
+                if (queue.poll() != null) dropped.incrementAndGet();
+            }
+        }
+
+        void drain() {
+            try {
+                while (!closed.get()) {
+                    Object next = queue.take();
+                    if (next == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        Event event = (Event) next;
+                        emitter.send(SseEmitter.event().id(Long.toString(event.id())).name("progress").data(event.data()));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("📡 Progress subscriber disconnected: {}", e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            // Completion, timeout, errors and shutdown can all close a subscriber; only the first releases its slot
+            if (!closed.compareAndSet(false, true)) return;
+            subscribers.remove(this);
+            slots.decrementAndGet();
+            Thread thread = sender;
+            if (thread != null && thread != Thread.currentThread()) thread.interrupt();
+        }
+    }
+}
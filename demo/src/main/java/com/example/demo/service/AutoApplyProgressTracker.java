@@ -0,0 +1,205 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * 📊 Lock-free progress accounting for auto-apply runs, per run and per worker.
+ *
+ * Workers report either absolute counts (their running total) or deltas. Absolute counts
+ * only move forward, so a reordered or repeated report never undoes progress; each
+ * increase is also added to the run's {@link LongAdder} totals, keeping run totals exact
+ * while many workers report at once. Rates are measured from the start of the run, so a
+ * stalled worker's jobs/min decays instead of freezing at its last value.
+ */
+@Service
+public class AutoApplyProgressTracker {
+
+    private final Map<String, RunProgress> runs = new ConcurrentHashMap<>();
+
+    /**
+     * 🟢 Starts tracking a run that aims to process {@code target} jobs.
+     */
+    public void begin(String runId, int target) {
+        runs.put(runId, new RunProgress(target, System.nanoTime()));
+    }
+
+    /**
+     * 🛑 Stops tracking a run and returns its final snapshot, or {@code null} if it was not tracked.
+     */
+    public Snapshot end(String runId) {
+        RunProgress run = runs.remove(runId);
+        return run == null ? null : run.snapshot(System.nanoTime());
+    }
+
+    /**
+     * 🟢 Records a worker report; {@code null} counts are left unchanged. Returns false if the run is not tracked.
+     * Throws {@link IllegalArgumentException} for negative counts.
+     */
+    public boolean record(String runId, String workerId, Long processed, Long successful, boolean delta) {
+        if ((processed != null && processed < 0) || (successful != null && successful < 0)) {
+            throw new IllegalArgumentException("Progress counts must not be negative");
+        }
+        RunProgress run = runs.get(runId);
+        if (run == null) return false;
+
+        WorkerProgress worker = run.workers.computeIfAbsent(workerId, id -> new WorkerProgress());
+        if (processed != null) run.processed.add(worker.processed.apply(processed, delta));
+        if (successful != null) run.successful.add(worker.successful.apply(successful, delta));
+        return true;
+    }
+
+    /**
+     * Current totals, per-worker throughput and ETA for a run, or {@code null} if it is not tracked.
+     */
+    public Snapshot snapshot(String runId) {
+        RunProgress run = runs.get(runId);
+        return run == null ? null : run.snapshot(System.nanoTime());
+    }
+
+    private static double perMinute(long count, long elapsedNanos) {
+        // At least one second, so the first report does not produce an absurd rate
+        double minutes = Math.max(elapsedNanos, 1_000_000_000L) / 60_000_000_000.0;
+        return Math.round(count / minutes * 10) / 10.0;
+    }
+
+    private static final class RunProgress {
+
+        private final int target;
+        private final long startedAt;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder successful = new LongAdder();
+        private final Map<String, WorkerProgress> workers = new ConcurrentHashMap<>();
+
+        RunProgress(int target, long startedAt) {
+            this.target = target;
+            this.startedAt = startedAt;
+        }
+
+        Snapshot snapshot(long now) {
+            long elapsed = now - startedAt;
+            List<WorkerSnapshot> workerSnapshots = new ArrayList<>(workers.size());
+            workers.forEach((id, worker) -> {
+                long done = worker.processed.get();
+                workerSnapshots.add(new WorkerSnapshot(id, done, worker.successful.get(), perMinute(done, elapsed)));
+            });
+
+            long total = processed.sum();
+            Long etaSeconds = null;
+            if (total >= target) {
+                etaSeconds = 0L;
+            } else if (total > 0) {
+                // Combined rate of all workers is total / elapsed, so remaining work takes remaining * elapsed / total
+                etaSeconds = (long) Math.ceil((double) (target - total) * elapsed / total / 1_000_000_000L);
+            }
+            return new Snapshot(total, successful.sum(), perMinute(total, elapsed), etaSeconds, workerSnapshots);
+        }
+    }
+
+    private static final class WorkerProgress {
+
+        private final Counter processed = new Counter();
+        private final Counter successful = new Counter();
+    }
+
+    private static final class Counter {
+
+        private final AtomicLong value = new AtomicLong();
+
+        /**
+         * Applies a report and returns how much the count grew.
+         */
+        long apply(long reported, boolean delta) {
+            if (delta) {
+                value.addAndGet(reported);
+                return reported;
+            }
+            long previous = value.getAndAccumulate(reported, Math::max);
+            return Math.max(0, reported - previous);
+        }
+
+        long get() {
+            return value.get();
+        }
+    }
+
+    /**
+     * Progress of one run: combined totals, combined jobs/min, ETA ({@code null} until there is a rate) and per-worker figures.
+     */
+    public static final class Snapshot {
+
+        private final long processed;
+        private final long successful;
+        private final double jobsPerMinute;
+        private final Long etaSeconds;
+        private final List<WorkerSnapshot> workers;
+
+        Snapshot(long processed, long successful, double jobsPerMinute, Long etaSeconds, List<WorkerSnapshot> workers) {
+            this.processed = processed;
+            this.successful = successful;
+            this.jobsPerMinute = jobsPerMinute;
+            this.etaSeconds = etaSeconds;
+            this.workers = workers;
+        }
+
+        public long getProcessed() {
+            return processed;
+        }
+
+        public long getSuccessful() {
+            return successful;
+        }
+
+        public double getJobsPerMinute() {
+            return jobsPerMinute;
+        }
+
+        public Long getEtaSeconds() {
+            return etaSeconds;
+        }
+
+        public List<WorkerSnapshot> getWorkers() {
+            return workers;
+        }
+    }
+
+    /**
+     * One worker's counts and throughput within a run.
+     */
+    public static final class WorkerSnapshot {
+
+        private final String workerId;
+        private final long processed;
+        private final long successful;
+        private final double jobsPerMinute;
+
+        WorkerSnapshot(String workerId, long processed, long successful, double jobsPerMinute) {
+            this.workerId = workerId;
+            this.processed = processed;
+            this.successful = successful;
+            this.jobsPerMinute = jobsPerMinute;
+        }
+
+        public String getWorkerId() {
+            return workerId;
+        }
+
+        public long getProcessed() {
+            return processed;
+        }
+
+        public long getSuccessful() {
+            return successful;
+        }
+
+        public double getJobsPerMinute() {
+            return jobsPerMinute;
+        }
+    }
+}
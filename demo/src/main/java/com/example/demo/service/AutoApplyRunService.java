@@ -0,0 +1,341 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.demo.model.AutoApplyRun;
+import com.example.demo.repository.AutoApplyRunRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 🤖 Runs auto-apply against the Python service and records every run in {@code autoapply_runs}.
+ *
+ * At most one run is active: it is claimed with a compare-and-set, so concurrent starts cannot
+ * both win. Each run executes on its own virtual thread; stopping it cancels the task, which
+ * interrupts that thread and aborts the in-flight HTTP call. Progress reports from any number
+ * of workers are accounted in {@link AutoApplyProgressTracker}.
+ */
+@Service
+public class AutoApplyRunService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoApplyRunService.class);
+
+    private static final int MAX_HISTORY = 100;
+
+    // Worker id for reports that do not name one (a single Python service)
+    private static final String DEFAULT_WORKER = "default";
+
+    @Autowired
+    private AutoApplyRunRepository runRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AutoApplyProgressBroadcaster progressBroadcaster;
+
+    @Autowired
+    private AutoApplyProgressTracker progressTracker;
+
+    @Autowired
+    private RestTemplate autoApplyRestTemplate;
+
+    @Autowired
+    private AutoApplyDispatcher autoApplyDispatcher;
+
+    @Value("${python.service.base:http://127.0.0.1:5000}")
+    private String pythonServiceBase;
+
+    @Value("${jobpilot.autoapply.progress-persist-ms:1000}")
+    private long progressPersistMs;
+
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("autoapply-run-", 0).factory());
+
+    // The run in flight, or null; only the thread that finishes a run clears it
+    private final AtomicReference<ActiveRun> active = new AtomicReference<>();
+
+    // Most recent run once it has finished (or was loaded from history), for /status
+    private volatile AutoApplyRun lastRun;
+
+    private final LocalDateTime bootedAt = LocalDateTime.now();
+
+    /**
+     * 🧹 Closes out runs a previous process left RUNNING and restores the last run for /status.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        Thread.ofVirtual().name("autoapply-run-recovery").start(() -> {
+            try {
+                Query orphaned = Query.query(Criteria.where("status").is(AutoApplyRun.Status.RUNNING)
+                        .and("startedAt").lt(bootedAt));
+                Update failed = new Update()
+                        .set("status", AutoApplyRun.Status.FAILED)
+                        .set("finishedAt", LocalDateTime.now())
+                        .set("error", "Interrupted by application restart");
+                long recovered = mongoTemplate.updateMulti(orphaned, failed, AutoApplyRun.class).getModifiedCount();
+                if (recovered > 0) logger.warn("⚠️ Marked {} interrupted auto-apply runs as failed", recovered);
+
+                if (lastRun == null) {
+                    runRepository.findTopByOrderByStartedAtDesc()
+                            .filter(run -> run.getStatus() != AutoApplyRun.Status.RUNNING)
+                            .ifPresent(run -> { if (lastRun == null) lastRun = run; });
+                }
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not recover auto-apply run history: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 🚀 Records a new run and starts it. Throws {@link IllegalStateException} if one is already active.
+     */
+    public AutoApplyRun start(int limit) {
+        if (limit <= 0) throw new IllegalArgumentException("limit must be positive");
+
+        ActiveRun run = new ActiveRun(new AutoApplyRun(limit));
+        if (!active.compareAndSet(null, run)) {
+            throw new IllegalStateException("Auto-apply is already running");
+        }
+        try {
+            runRepository.insert(run.record);
+            progressTracker.begin(run.record.getId(), limit);
+            executor.execute(() -> {
+                run.call.run();
+                finish(run);
+            });
+        } catch (RuntimeException e) {
+            active.compareAndSet(run, null);
+            throw e;
+        }
+
+        logger.info("🚀 Auto-apply run {} started with limit={}", run.record.getId(), limit);
+        progressBroadcaster.publish(status());
+        return run.record;
+    }
+
+    /**
+     * 🛑 Cancels the active run, aborting its HTTP call; returns false if nothing is running.
+     */
+    public boolean stop() {
+        ActiveRun run = active.get();
+        if (run == null) return false;
+
+        logger.info("🧩 Stop requested for auto-apply run {}", run.record.getId());
+        run.call.cancel(true);
+        return true;
+    }
+
+    /**
+     * 🟢 Applies a worker's progress report to the active run. Reports carry optional {@code runId}
+     * (defaults to the active run), {@code workerId}, {@code processed}/{@code successful} and
+     * {@code mode}: {@code "absolute"} (default, running totals) or {@code "delta"} (increments).
+     * Returns false when the report is not for the active run.
+     */
+    public boolean updateProgress(Map<String, Object> progress) {
+        ActiveRun run = active.get();
+        if (run == null) return false;
+
+        String runId = run.record.getId();
+        if (progress.get("runId") != null && !runId.equals(String.valueOf(progress.get("runId")))) return false;
+
+        String workerId = progress.get("workerId") == null ? DEFAULT_WORKER : String.valueOf(progress.get("workerId"));
+        boolean delta = isDelta(progress.get("mode"));
+        Long processed = progress.containsKey("processed") ? (long) asInt(progress.get("processed")) : null;
+        Long successful = progress.containsKey("successful") ? (long) asInt(progress.get("successful")) : null;
+        if (!progressTracker.record(runId, workerId, processed, successful, delta)) return false;
+
+        persistProgress(run);
+        progressBroadcaster.publish(status());
+        return true;
+    }
+
+    /**
+     * Status snapshot served by /status and pushed to stream subscribers.
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new HashMap<>();
+        ActiveRun run = active.get();
+        if (run != null) {
+            // No snapshot yet while start() is still recording the run (the id is already assigned)
+            AutoApplyProgressTracker.Snapshot progress = progressTracker.snapshot(run.record.getId());
+            status.put("isRunning", true);
+            status.put("runId", run.record.getId());
+            status.put("runStatus", AutoApplyRun.Status.RUNNING);
+            status.put("processedJobs", progress == null ? 0 : progress.getProcessed());
+            status.put("successfulApplications", progress == null ? 0 : progress.getSuccessful());
+            status.put("jobsPerMinute", progress == null ? 0.0 : progress.getJobsPerMinute());
+            status.put("etaSeconds", progress == null ? null : progress.getEtaSeconds());
+            status.put("workers", progress == null ? List.of() : progress.getWorkers());
+            status.put("lastRunTime", run.record.getStartedAt().toString());
+            return status;
+        }
+
+        AutoApplyRun last = lastRun;
+        status.put("isRunning", false);
+        status.put("runId", last == null ? null : last.getId());
+        status.put("runStatus", last == null ? null : last.getStatus());
+        status.put("processedJobs", last == null ? 0 : last.getProcessed());
+        status.put("successfulApplications", last == null ? 0 : last.getSuccessful());
+        status.put("lastRunTime", last == null ? null : last.getStartedAt().toString());
+        return status;
+    }
+
+    /**
+     * 📜 Most recent runs first, at most {@value #MAX_HISTORY}.
+     */
+    public List<AutoApplyRun> history(int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_HISTORY);
+        return runRepository.findAllByOrderByStartedAtDesc(PageRequest.of(0, size));
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        ActiveRun run = active.get();
+        if (run != null) run.call.cancel(true);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // Dispatched over the configured workers, or a single run-once call to python.service.base
+    private Map<String, Object> execute(AutoApplyRun record) throws InterruptedException {
+        if (autoApplyDispatcher.isEnabled()) return autoApplyDispatcher.dispatch(record.getId(), record.getLimit());
+        return callPython(record.getLimit());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> callPython(int limit) {
+        String url = pythonServiceBase + "/auto-apply/run-once?limit=" + limit;
+        ResponseEntity<Map> response = autoApplyRestTemplate.postForEntity(url, null, Map.class);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException("Python service responded with status " + response.getStatusCode());
+        }
+        return response.getBody();
+    }
+
+    private void finish(ActiveRun run) {
+        // A stop interrupts this thread; clear it so the final save is not aborted
+        Thread.interrupted();
+
+        AutoApplyRun record = run.record;
+        AutoApplyProgressTracker.Snapshot progress = progressTracker.end(record.getId());
+        if (progress != null) {
+            record.setProcessed((int) progress.getProcessed());
+            record.setSuccessful((int) progress.getSuccessful());
+        }
+        try {
+            applyResult(record, run.call.get());
+            record.setStatus(AutoApplyRun.Status.COMPLETED);
+        } catch (CancellationException e) {
+            record.setStatus(AutoApplyRun.Status.CANCELLED);
+        } catch (ExecutionException e) {
+            record.setStatus(AutoApplyRun.Status.FAILED);
+            record.setError(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            // Not reachable: the call has already completed
+            record.setStatus(AutoApplyRun.Status.FAILED);
+        }
+        record.setFinishedAt(LocalDateTime.now());
+
+        try {
+            runRepository.save(record);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not record the end of run {}: {}", record.getId(), e.getMessage());
+        }
+        lastRun = record;
+        active.set(null);
+        progressBroadcaster.publish(status());
+
+        logger.info("🛑 Auto-apply run {} {}: processed={}, successful={}",
+                record.getId(), record.getStatus(), record.getProcessed(), record.getSuccessful());
+    }
+
+    // The final response is { processed, successful } or { result: { ... } }; counts already reported
+    // by progress callbacks are kept if higher (e.g. a dispatched worker failed after reporting)
+    private void applyResult(AutoApplyRun record, Map<String, Object> body) {
+        if (body == null || !(body.containsKey("processed") || body.containsKey("successful") || body.containsKey("result"))) return;
+
+        int processed = asInt(body.get("processed"));
+        int successful = asInt(body.get("successful"));
+        if (processed == 0 && successful == 0 && body.get("result") instanceof Map<?, ?> result) {
+            processed = asInt(result.get("processed"));
+            successful = asInt(result.get("successful"));
+        }
+        record.setProcessed(Math.max(record.getProcessed(), processed));
+        record.setSuccessful(Math.max(record.getSuccessful(), successful));
+    }
+
+    /**
+     * Checkpoints the run's totals to Mongo at most once per {@code progress-persist-ms}; the final save is always exact.
+     */
+    private void persistProgress(ActiveRun run) {
+        long now = System.currentTimeMillis();
+        long last = run.persistedAt.get();
+        if (now - last < progressPersistMs || !run.persistedAt.compareAndSet(last, now)) return;
+
+        AutoApplyProgressTracker.Snapshot totals = progressTracker.snapshot(run.record.getId());
+        if (totals == null) return;
+        try {
+            // Guarded on RUNNING so a late checkpoint cannot overwrite the final counts
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(run.record.getId()).and("status").is(AutoApplyRun.Status.RUNNING)),
+                    new Update().set("processed", totals.getProcessed()).set("successful", totals.getSuccessful()),
+                    AutoApplyRun.class);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not record progress for run {}: {}", run.record.getId(), e.getMessage());
+        }
+    }
+
+    private boolean isDelta(Object mode) {
+        if (mode == null || "absolute".equalsIgnoreCase(String.valueOf(mode))) return false;
+        if ("delta".equalsIgnoreCase(String.valueOf(mode))) return true;
+        throw new IllegalArgumentException("mode must be 'absolute' or 'delta'");
+    }
+
+    private int asInt(Object value) {
+        if (value == null) return 0;
+        if (value instanceof Number) return ((Number) value).intValue();
+        if (value instanceof String) {
+            try { return Integer.parseInt((String) value); } catch (Exception ignored) {}
+        }
+        return 0;
+    }
+
+    private final class ActiveRun {
+
+        private final AutoApplyRun record;
+        private final FutureTask<Map<String, Object>> call;
+        private final AtomicLong persistedAt = new AtomicLong();
+
+        ActiveRun(AutoApplyRun record) {
+            this.record = record;
+            this.call = new FutureTask<>(() -> execute(record));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.model.ClassificationRuleSet;
+import com.example.demo.repository.ClassificationRuleSetRepository;
+import com.example.demo.service.JobTextMatcher.CompiledRules;
+
+/**
+ * 📚 Loads, publishes and hot-reloads the classification rule set.
+ *
+ * Rule sets are stored as immutable versions in {@code classification_rules}; the highest
+ * version is active. Every instance polls for a newer version and swaps it into
+ * {@link JobTextMatcher} once compiled, so a rule change needs no redeploy.
+ */
+@Service
+public class ClassificationRuleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassificationRuleService.class);
+
+    @Autowired
+    private ClassificationRuleSetRepository ruleSetRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobTextMatcher jobTextMatcher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofVirtual().name("classification-rules-load").start(this::refresh);
+    }
+
+    /**
+     * 🔄 Activates the latest stored version if it is newer than the active one.
+     */
+    @Scheduled(fixedDelayString = "${jobpilot.classification.refresh-ms:60000}",
+               initialDelayString = "${jobpilot.classification.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            long latest = latestVersion();
+            if (latest <= jobTextMatcher.current().getVersion()) return;
+
+            ruleSetRepository.findTopByOrderByVersionDesc().ifPresent(this::activate);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not refresh classification rules, keeping version {}: {}",
+                    jobTextMatcher.current().getVersion(), e.getMessage());
+        }
+    }
+
+    /**
+     * 🟢 Validates, stores and activates a new rule set as the next version.
+     */
+    public ClassificationRuleSet publish(ClassificationRuleSet ruleSet) {
+        // Compile first so an invalid rule set is rejected before it is stored
+        JobTextMatcher.compile(ruleSet);
+
+        ruleSet.setId(null);
+        ruleSet.setVersion(Math.max(latestVersion(), jobTextMatcher.current().getVersion()) + 1);
+        ruleSet.setCreatedAt(LocalDateTime.now());
+
+        ClassificationRuleSet saved;
+        try {
+            saved = ruleSetRepository.insert(ruleSet);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalStateException("Another rule set was published concurrently, retry");
+        }
+        activate(saved);
+        return saved;
+    }
+
+    public ClassificationRuleSet getActiveRuleSet() {
+        return jobTextMatcher.current().getRuleSet();
+    }
+
+    private void activate(ClassificationRuleSet ruleSet) {
+        CompiledRules compiled = JobTextMatcher.compile(ruleSet);
+        synchronized (this) {
+            // Never go back to an older version if a poll and a publish race
+            if (compiled.getVersion() <= jobTextMatcher.current().getVersion()) return;
+            jobTextMatcher.activate(compiled);
+        }
+        logger.info("📚 Classification rules version {} active", compiled.getVersion());
+    }
+
+    private long latestVersion() {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "version")).limit(1);
+        query.fields().include("version");
+        ClassificationRuleSet latest = mongoTemplate.findOne(query, ClassificationRuleSet.class);
+        return latest == null ? 0 : latest.getVersion();
+    }
+}
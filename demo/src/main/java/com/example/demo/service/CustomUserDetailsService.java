@@ -2,29 +2,93 @@ package com.example.demo.service;
 
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * 👤 Loads users for Spring Security, from a short-lived cache in front of Mongo.
+ *
+ * Every bearer-token request loads its user, so principals are cached (size- and TTL-bounded)
+ * and AuthService evicts a user whenever it changes one. Callers get a copy, never the cached
+ * instance, since Spring Security erases credentials on the principals it returns. Hit/miss
+ * counts are under {@code cache=userDetails}, the hit ratio under {@code cache.hit.ratio}.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
-    
+
     @Autowired
     private UserRepository userRepository;
-    
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jobpilot.auth.user-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${jobpilot.auth.user-cache.max-entries:10000}")
+    private long cacheMaxEntries;
+
+    @Value("${jobpilot.auth.user-cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    private Cache<String, UserDetails> principals;
+
+    @PostConstruct
+    void init() {
+        principals = Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "userDetails");
+        Gauge.builder("cache.hit.ratio", principals, cache -> cache.stats().hitRate())
+                .tag("cache", "userDetails")
+                .description("Share of user lookups served from the cache")
+                .register(meterRegistry);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        if (!cacheEnabled) return load(email);
+        // Unknown emails throw, so they are never cached
+        UserDetails cached = principals.get(email, this::load);
+        return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+    }
+
+    /**
+     * 🔄 Drops a user's cached principal; call after changing or deactivating the user.
+     */
+    public void evict(String email) {
+        principals.invalidate(email);
+    }
+
+    private UserDetails load(String email) {
+        User user = userRepository.findCredentialsByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-        
+
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
                 user.getPassword(),
-                new ArrayList<>()
+                user.isActive(),
+                true,
+                true,
+                true,
+                // USER or ADMIN, checked with hasRole(...) in SecurityConfig
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole()))
         );
     }
-}
\ No newline at end of file
+}
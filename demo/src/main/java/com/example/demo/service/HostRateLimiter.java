@@ -0,0 +1,40 @@
+package com.example.demo.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.ScrapeCampaignProperties;
+
+/**
+ * ⏱️ Spaces out request starts per host so no host sees more than {@code permitsPerSecond}.
+ *
+ * Each caller reserves the next free slot atomically and sleeps until it; intended to be
+ * used from virtual threads, where sleeping is cheap. One instance is shared by every scrape
+ * (campaigns and {@code /scrape}), so concurrent callers draw on the same per-host budget.
+ */
+@Component
+class HostRateLimiter {
+
+    private final long intervalNanos;
+    private final Map<String, AtomicLong> nextSlots = new ConcurrentHashMap<>();
+
+    HostRateLimiter(ScrapeCampaignProperties campaignProperties) {
+        double permitsPerSecond = campaignProperties.getHostRatePerSecond();
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    void acquire(String host) throws InterruptedException {
+        if (intervalNanos == 0) return;
+        AtomicLong nextSlot = nextSlots.computeIfAbsent(host, h -> new AtomicLong(System.nanoTime()));
+        long now = System.nanoTime();
+        long slot = nextSlot.getAndUpdate(previous -> Math.max(previous, now) + intervalNanos);
+        long waitNanos = Math.max(slot, now) - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -1,50 +1,47 @@
 package com.example.demo.service;
 
 import com.example.demo.model.Job;
+import com.example.demo.service.JobTextMatcher.JobTextMatch;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class JobCategoryService {
 
-    // Common tech stack keywords
-    private static final List<String> SKILLS = List.of(
-        "java", "python", "react", "node", "spring boot", "sql", "mongodb", "aws",
-        "javascript", "typescript", "docker", "kubernetes", "html", "css", "express",
-        "c++", "c#", "next.js", "flutter", "android", "django", "flask", "git"
-    );
+    // Values enrichJob assigns, used to match filters case-insensitively against stored values
+    public static final List<String> JOB_TYPES = List.of("Internship", "Contract", "Remote", "Full-time");
+    public static final List<String> SENIORITY_LEVELS = List.of("Senior", "Junior", "Mid-level");
+
+    // Skill, job type and seniority keywords come from the active rule set via JobTextMatcher
+    @Autowired
+    private JobTextMatcher jobTextMatcher;
+
+    @Autowired
+    private JobNormalizerService jobNormalizerService;
 
     public void enrichJob(Job job) {
         if (job.getTitle() == null) return;
-        String title = job.getTitle().toLowerCase();
-        String jobSkills = job.getSkills() != null ? job.getSkills().toLowerCase() : "";
+        enrichJob(job, jobTextMatcher.match(job.getTitle(), job.getSkills()));
+    }
+
+    /**
+     * Enriches the job from a match already computed for its title and skills.
+     */
+    public void enrichJob(Job job, JobTextMatch match) {
+        if (job.getTitle() == null) return;
 
         // 1️⃣ Detect skills (if not already scraped)
-        if (jobSkills.isEmpty()) {
-            Set<String> detectedSkills = SKILLS.stream()
-                    .filter(title::contains)
-                    .collect(Collectors.toSet());
-            job.setSkills(String.join(", ", detectedSkills));
+        if (job.getSkills() == null || job.getSkills().isEmpty()) {
+            job.setSkills(String.join(", ", match.getTitleSkills()));
         }
 
         // 2️⃣ Detect job type
-        if (title.contains("intern") || title.contains("internship"))
-            job.setJobType("Internship");
-        else if (title.contains("contract"))
-            job.setJobType("Contract");
-        else if (title.contains("remote"))
-            job.setJobType("Remote");
-        else
-            job.setJobType("Full-time");
+        job.setJobType(match.getJobType());
 
         // 3️⃣ Detect seniority
-        if (title.contains("senior") || title.contains("lead"))
-            job.setSeniorityLevel("Senior");
-        else if (title.contains("junior") || title.contains("fresher"))
-            job.setSeniorityLevel("Junior");
-        else
-            job.setSeniorityLevel("Mid-level");
+        job.setSeniorityLevel(match.getSeniorityLevel());
 
         // 4️⃣ Set source if not provided
         if (job.getSource() == null || job.getSource().isEmpty())
@@ -55,24 +52,7 @@ public class JobCategoryService {
     }
 
     private void parsePostedDate(Job job) {
-        if (job.getPosted() == null || job.getPosted().isBlank()) return;
-
-        String postedText = job.getPosted().toLowerCase();
-        Calendar cal = Calendar.getInstance();
-
-        try {
-            if (postedText.contains("today")) {
-                job.setPostedAt(cal.getTime().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime());
-            } else if (postedText.contains("day")) {
-                int days = Integer.parseInt(postedText.replaceAll("\\D+", ""));
-                cal.add(Calendar.DAY_OF_YEAR, -days);
-                job.setPostedAt(cal.getTime().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime());
-            } else {
-                // Default fallback
-                job.setPostedAt(cal.getTime().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime());
-            }
-        } catch (Exception e) {
-            System.err.println("⚠️ Error parsing postedAt: " + e.getMessage());
-        }
+        LocalDateTime postedAt = jobNormalizerService.parsePostedAt(job.getPosted(), LocalDateTime.now());
+        if (postedAt != null) job.setPostedAt(postedAt);
     }
 }
@@ -0,0 +1,172 @@
+package com.example.demo.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.model.Job;
+
+/**
+ * 🧮 In-memory Bloom filter over stored {@code jobHash} values.
+ *
+ * Answers "definitely new" or "maybe seen" without a database round trip. Hashes are
+ * folded into two 64-bit halves and never kept as Strings. Until the filter has been
+ * warmed from Mongo every hash is reported as "maybe seen", so callers fall back to the
+ * database lookup and correctness never depends on the filter.
+ */
+@Service
+public class JobDedupIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobDedupIndex.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${jobpilot.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jobpilot.dedup.expected-jobs:1000000}")
+    private long expectedJobs;
+
+    @Value("${jobpilot.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Filter used for lookups; null until the first warm-up completes
+    private volatile BloomFilter filter;
+
+    // Filter being rebuilt; receives every add() so nothing saved mid-warm-up is lost
+    private volatile BloomFilter warming;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!enabled) return;
+        Thread.ofVirtual().name("job-dedup-warmup").start(this::rebuild);
+    }
+
+    /**
+     * 🔄 Rebuilds the filter from a projection of all stored hashes and swaps it in.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long stored = mongoTemplate.estimatedCount(Job.class);
+            BloomFilter next = new BloomFilter(Math.max(expectedJobs, stored * 2), falsePositiveRate);
+            warming = next;
+
+            Query query = new Query();
+            query.fields().include("jobHash").exclude("_id");
+
+            long loaded = 0;
+            try (Stream<Document> hashes = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(Job.class))) {
+                for (Document doc : (Iterable<Document>) hashes::iterator) {
+                    if (next.put(doc.getString("jobHash"))) loaded++;
+                }
+            }
+
+            filter = next;
+            logger.info("🧮 Dedup index warmed with {} hashes in {} ms", loaded, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            logger.warn("⚠️ Dedup index warm-up failed, falling back to database lookups: {}", e.getMessage());
+        } finally {
+            warming = null;
+        }
+    }
+
+    /**
+     * Returns {@code false} only when the hash has definitely never been stored.
+     */
+    public boolean mightContain(String jobHash) {
+        BloomFilter current = filter;
+        return !enabled || current == null || current.mightContain(jobHash);
+    }
+
+    /**
+     * Records a hash after it has been stored successfully.
+     */
+    public void add(String jobHash) {
+        if (!enabled) return;
+        BloomFilter current = filter;
+        if (current != null) current.put(jobHash);
+        BloomFilter next = warming;
+        if (next != null && next != current) next.put(jobHash);
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    /**
+     * Lock-free Bloom filter keyed by 128-bit MD5 hex hashes using double hashing.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double fpp) {
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = (long) wordCount << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        boolean put(String jobHash) {
+            if (!isHash128(jobHash)) return false;
+            long high = parseHex(jobHash, 0);
+            long low = parseHex(jobHash, 16);
+            long combined = high;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = (combined & Long.MAX_VALUE) % bitCount;
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+                combined += low;
+            }
+            return true;
+        }
+
+        boolean mightContain(String jobHash) {
+            if (!isHash128(jobHash)) return true;
+            long high = parseHex(jobHash, 0);
+            long low = parseHex(jobHash, 16);
+            long combined = high;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = (combined & Long.MAX_VALUE) % bitCount;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+                combined += low;
+            }
+            return true;
+        }
+
+        private static boolean isHash128(String hash) {
+            if (hash == null || hash.length() != 32) return false;
+            for (int i = 0; i < 32; i++) {
+                if (Character.digit(hash.charAt(i), 16) < 0) return false;
+            }
+            return true;
+        }
+
+        private static long parseHex(String hash, int offset) {
+            long value = 0;
+            for (int i = offset; i < offset + 16; i++) {
+                value = (value << 4) | Character.digit(hash.charAt(i), 16);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.service;
+
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.model.Job;
+import com.example.demo.service.JobNormalizerService.Experience;
+
+/**
+ * 🧱 Fills {@code experienceMin}/{@code experienceMax} on jobs stored before they existed.
+ *
+ * Runs in the background after startup and only touches documents without
+ * {@code experienceMin}; unparseable text is stored as explicit nulls so each job is
+ * visited once. New jobs are written with the same explicit nulls (see {@link Job}), so
+ * only legacy documents ever match.
+ */
+@Service
+public class JobExperienceBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobExperienceBackfill.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Autowired
+    private JobNormalizerService jobNormalizerService;
+
+    @Value("${jobpilot.backfill.experience-enabled:true}")
+    private boolean enabled;
+
+    @Value("${jobpilot.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) return;
+        Thread.ofVirtual().name("experience-backfill").start(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                logger.warn("⚠️ Experience backfill failed, will retry on next start: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 🟢 Parses the stored experience text of every job missing the numeric range; returns the number updated.
+     */
+    public long backfill() {
+        long startedAt = System.currentTimeMillis();
+        String collection = mongoTemplate.getCollectionName(Job.class);
+
+        Query query = new Query(Criteria.where("experienceMin").exists(false));
+        query.fields().include("experience");
+        query.cursorBatchSize(batchSize);
+
+        long updated = 0;
+        BulkOperations bulkOps = null;
+        int pending = 0;
+
+        try (Stream<Document> jobs = mongoTemplate.stream(query, Document.class, collection)) {
+            for (Document job : (Iterable<Document>) jobs::iterator) {
+                Experience experience = jobNormalizerService.parseExperience(job.getString("experience"));
+                Update update = new Update()
+                        .set("experienceMin", experience.getMinYears())
+                        .set("experienceMax", experience.getMaxYears());
+
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                }
+                bulkOps.updateOne(Query.query(Criteria.where("_id").is(job.get("_id"))), update);
+                if (++pending >= batchSize) {
+                    updated += bulkOps.execute().getModifiedCount();
+                    bulkOps = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (bulkOps != null) {
+            updated += bulkOps.execute().getModifiedCount();
+        }
+
+        if (updated > 0) {
+            jobReadCache.evictAll();
+            logger.info("🧱 Backfilled experience range on {} jobs in {} ms", updated, System.currentTimeMillis() - startedAt);
+        }
+        return updated;
+    }
+}
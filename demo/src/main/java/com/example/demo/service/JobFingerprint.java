@@ -0,0 +1,142 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * 🧠 Deterministic job fingerprint used for deduplication.
+ *
+ * Produces exactly the same MD5 hex as the original
+ * {@code MD5((title|company|location).toLowerCase().trim())} implementation, so every
+ * {@code jobHash} already stored stays valid. ASCII input (the normal case after
+ * normalization) is lowercased and encoded straight into a per-thread buffer, hashed with a
+ * per-thread digest and hex-encoded through a lookup table; anything else takes the
+ * original String-based path.
+ */
+@Service
+public class JobFingerprint {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] NULL_TEXT = "null".getBytes(StandardCharsets.US_ASCII);
+
+    // Locales where lowercasing ASCII differs from Character.toLowerCase (e.g. Turkish dotless i)
+    private static final Set<String> SPECIAL_CASING_LANGUAGES = Set.of("tr", "az", "lt");
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final boolean asciiFastPath = !SPECIAL_CASING_LANGUAGES.contains(Locale.getDefault().getLanguage());
+
+    /**
+     * Returns the 32-character lowercase hex MD5 fingerprint of {@code title|company|location}.
+     */
+    public String hash(String title, String company, String location) {
+        if (!asciiFastPath || !isAscii(title) || !isAscii(company) || !isAscii(location)) {
+            return legacyHash(title, company, location);
+        }
+
+        Scratch scratch = SCRATCH.get();
+        int length = lengthOf(title) + lengthOf(company) + lengthOf(location) + 2;
+        byte[] input = scratch.input(length);
+
+        int pos = appendLower(input, 0, title);
+        input[pos++] = '|';
+        pos = appendLower(input, pos, company);
+        input[pos++] = '|';
+        pos = appendLower(input, pos, location);
+
+        // Same semantics as String.trim(): drop chars <= ' ' from both ends
+        int start = 0;
+        int end = pos;
+        while (start < end && (input[start] & 0xff) <= ' ') start++;
+        while (end > start && (input[end - 1] & 0xff) <= ' ') end--;
+
+        MessageDigest md = scratch.md5;
+        md.update(input, start, end - start);
+        try {
+            md.digest(scratch.digest, 0, scratch.digest.length);
+        } catch (DigestException e) {
+            throw new IllegalStateException("Error generating job hash", e);
+        }
+
+        byte[] hex = scratch.hex;
+        for (int i = 0; i < scratch.digest.length; i++) {
+            int b = scratch.digest[i] & 0xff;
+            hex[i << 1] = HEX[b >>> 4];
+            hex[(i << 1) + 1] = HEX[b & 0x0f];
+        }
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Original implementation, kept as the reference for non-ASCII input.
+     */
+    static String legacyHash(String title, String company, String location) {
+        try {
+            String raw = (title + "|" + company + "|" + location).toLowerCase().trim();
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] bytes = md.digest(raw.getBytes());
+            StringBuilder sb = new StringBuilder();
+            for (byte b : bytes) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (Exception e) {
+            throw new RuntimeException("Error generating job hash", e);
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        if (value == null) return true;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? NULL_TEXT.length : value.length();
+    }
+
+    private static int appendLower(byte[] target, int pos, String value) {
+        if (value == null) {
+            System.arraycopy(NULL_TEXT, 0, target, pos, NULL_TEXT.length);
+            return pos + NULL_TEXT.length;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            target[pos++] = (byte) (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+        }
+        return pos;
+    }
+
+    /**
+     * Per-thread buffers so the hot path does not allocate beyond the result String.
+     */
+    private static final class Scratch {
+
+        private final MessageDigest md5;
+        private final byte[] digest = new byte[16];
+        private final byte[] hex = new byte[32];
+        private byte[] input = new byte[256];
+
+        Scratch() {
+            try {
+                this.md5 = MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("MD5 is not available", e);
+            }
+        }
+
+        byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            return input;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.model.Job;
+
+/**
+ * 🧹 One-off migration for legacy jobs that share a {@code jobHash}, which block the unique index.
+ *
+ * Off by default: it only logs which jobs it would delete. With
+ * {@code jobpilot.migration.job-hash-dedupe.enabled=true} the duplicates are copied to
+ * {@code jobpilot.migration.job-hash-dedupe.backup-collection} and then deleted, keeping one job per
+ * hash (applied over failed over leased over pending, then the oldest).
+ */
+@Service
+public class JobHashDeduplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobHashDeduplication.class);
+
+    private static final String APPLIED = "applied";
+
+    // Duplicate groups listed in the log; the rest are only counted
+    private static final int LOGGED_GROUPS = 20;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Value("${jobpilot.migration.job-hash-dedupe.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jobpilot.migration.job-hash-dedupe.backup-collection:job_duplicates}")
+    private String backupCollection;
+
+    @Value("${jobpilot.migration.job-hash-dedupe.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 🟢 Finds duplicate jobs; deletes them (after a backup) only when enabled. Returns the number deleted.
+     */
+    public long run() {
+        Aggregation duplicates = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("jobHash").ne(null)),
+                Aggregation.sort(Sort.Direction.ASC, "_id"),
+                Aggregation.project("jobHash")
+                        .and(ConditionalOperators.ifNull("status").then(JobLeaseService.PENDING)).as("status"),
+                Aggregation.group("jobHash").push("_id").as("ids").push("status").as("statuses").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1)))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        List<Object> doomed = new ArrayList<>();
+        long groupCount = 0;
+        long found = 0;
+        long deleted = 0;
+        try (Stream<Document> groups = mongoTemplate.aggregateStream(duplicates, Job.class, Document.class)) {
+            Iterator<Document> it = groups.iterator();
+            while (it.hasNext()) {
+                Document group = it.next();
+                List<?> ids = group.getList("ids", Object.class);
+                int keep = keeper(group.getList("statuses", Object.class));
+
+                List<Object> extra = new ArrayList<>(ids);
+                extra.remove(keep);
+                found += extra.size();
+                if (groupCount++ < LOGGED_GROUPS) {
+                    logger.warn("🧹 jobHash {}: keeping {}, {} {}", group.get("_id"), ids.get(keep),
+                            enabled ? "deleting" : "would delete", extra);
+                }
+
+                if (enabled) {
+                    doomed.addAll(extra);
+                    if (doomed.size() >= batchSize) {
+                        deleted += backupAndDelete(doomed);
+                    }
+                }
+            }
+        }
+        deleted += backupAndDelete(doomed);
+
+        if (!enabled) {
+            if (found > 0) {
+                logger.warn("🧹 {} duplicate jobs in {} jobHash groups; set jobpilot.migration.job-hash-dedupe.enabled=true "
+                        + "to back them up to {} and delete them", found, groupCount, backupCollection);
+            }
+            return 0;
+        }
+        if (deleted > 0) {
+            jobReadCache.evictAll();
+            logger.warn("🧹 Deleted {} duplicate jobs in {} jobHash groups (backed up to {})", deleted, groupCount, backupCollection);
+        }
+        return deleted;
+    }
+
+    // Index of the job to keep: the highest-ranked status, the oldest on ties (groups are in _id order)
+    static int keeper(List<?> statuses) {
+        int keep = 0;
+        for (int i = 1; i < statuses.size(); i++) {
+            if (rank(statuses.get(i)) > rank(statuses.get(keep))) {
+                keep = i;
+            }
+        }
+        return keep;
+    }
+
+    private static int rank(Object status) {
+        if (JobLeaseService.PENDING.equals(status)) return 0;
+        if (JobLeaseService.LEASED.equals(status)) return 1;
+        return APPLIED.equals(status) ? 3 : 2;
+    }
+
+    private long backupAndDelete(List<Object> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Query query = new Query(Criteria.where("_id").in(List.copyOf(ids)));
+        String collection = mongoTemplate.getCollectionName(Job.class);
+        // Upsert by _id, so a rerun after a partial failure does not trip over copies already made
+        for (Document copy : mongoTemplate.find(query, Document.class, collection)) {
+            mongoTemplate.save(copy, backupCollection);
+        }
+        long deleted = mongoTemplate.remove(query, collection).getDeletedCount();
+        ids.clear();
+        return deleted;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.IngestionResult;
+import com.example.demo.model.Job;
+import com.example.demo.service.JobTextMatcher.JobTextMatch;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+/**
+ * 📦 Batched ingestion pipeline for scraped jobs.
+ *
+ * Each batch is normalized/classified in memory, checked against existing hashes with a
+ * single {@code $in} query and written with one unordered bulk upsert keyed on {@code jobHash}.
+ */
+@Service
+public class JobIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobIngestionService.class);
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobNormalizerService jobNormalizerService;
+
+    @Autowired
+    private JobCategoryService jobCategoryService;
+
+    @Autowired
+    private JobClassifier jobClassifier;
+
+    @Autowired
+    private JobTextMatcher jobTextMatcher;
+
+    @Autowired
+    private JobDedupIndex jobDedupIndex;
+
+    @Autowired
+    private JobFingerprint jobFingerprint;
+
+    @Autowired
+    private JobSearchService jobSearchService;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Value("${jobpilot.ingestion.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 🟢 Ingests scraped jobs in batches of {@code jobpilot.ingestion.batch-size}.
+     */
+    public IngestionResult ingest(List<Job> scrapedJobs) {
+        IngestionResult total = new IngestionResult();
+        int size = Math.max(1, batchSize);
+
+        for (int from = 0; from < scrapedJobs.size(); from += size) {
+            List<Job> batch = scrapedJobs.subList(from, Math.min(from + size, scrapedJobs.size()));
+            IngestionResult result = ingestBatch(batch);
+            logger.info("📦 Batch {}-{}: inserted={}, duplicates={}, failed={}",
+                    from, from + batch.size(), result.getInserted(), result.getDuplicates(), result.getFailed());
+            total.merge(result);
+        }
+
+        logger.info("💾 Ingestion finished: inserted={}, duplicates={}, failed={}",
+                total.getInserted(), total.getDuplicates(), total.getFailed());
+        return total;
+    }
+
+    /**
+     * 🧩 Prepares and writes a single batch using two round trips: one hash lookup, one bulk upsert.
+     */
+    public IngestionResult ingestBatch(List<Job> batch) {
+        int duplicates = 0;
+        int failed = 0;
+
+        // 1️⃣ Normalize & enrich in memory, collapsing duplicates inside the batch
+        Map<String, Job> candidates = new LinkedHashMap<>();
+        for (Job job : batch) {
+            try {
+                Job prepared = prepare(job);
+                if (candidates.putIfAbsent(prepared.getJobHash(), prepared) != null) {
+                    duplicates++;
+                }
+            } catch (Exception e) {
+                failed++;
+                logger.error("❌ Error processing job '{}': {}", job.getTitle(), e.getMessage());
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return new IngestionResult(0, duplicates, failed, new ArrayList<>());
+        }
+
+        // 2️⃣ Single $in lookup, restricted to hashes the dedup index may have seen
+        List<String> maybeSeen = new ArrayList<>();
+        for (String hash : candidates.keySet()) {
+            if (jobDedupIndex.mightContain(hash)) {
+                maybeSeen.add(hash);
+            }
+        }
+        if (!maybeSeen.isEmpty()) {
+            Query existingQuery = new Query(Criteria.where("jobHash").in(maybeSeen));
+            List<String> existingHashes = mongoTemplate.findDistinct(existingQuery, "jobHash", Job.class, String.class);
+            for (String hash : existingHashes) {
+                if (candidates.remove(hash) != null) {
+                    duplicates++;
+                    jobDedupIndex.add(hash);
+                }
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return new IngestionResult(0, duplicates, failed, new ArrayList<>());
+        }
+
+        // 3️⃣ One unordered bulk upsert; $setOnInsert keeps concurrent writers from overwriting each other
+        List<Job> pending = new ArrayList<>(candidates.values());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+        for (Job job : pending) {
+            bulkOps.upsert(Query.query(Criteria.where("jobHash").is(job.getJobHash())), insertOnly(job));
+        }
+
+        BulkWriteResult writeResult;
+        Set<Integer> rejected = new HashSet<>();
+        try {
+            writeResult = bulkOps.execute();
+        } catch (BulkOperationException e) {
+            writeResult = e.getResult();
+            for (BulkWriteError error : e.getErrors()) {
+                rejected.add(error.getIndex());
+                if (error.getCode() == DUPLICATE_KEY_ERROR) {
+                    // Another scrape inserted the same job between our lookup and upsert
+                    duplicates++;
+                    jobDedupIndex.add(pending.get(error.getIndex()).getJobHash());
+                } else {
+                    failed++;
+                    logger.error("❌ Bulk upsert failed for '{}': {}",
+                            pending.get(error.getIndex()).getTitle(), error.getMessage());
+                }
+            }
+        }
+
+        List<Job> savedJobs = new ArrayList<>();
+        for (BulkWriteUpsert upsert : writeResult.getUpserts()) {
+            Job job = pending.get(upsert.getIndex());
+            job.setId(upsert.getId().asObjectId().getValue().toHexString());
+            jobDedupIndex.add(job.getJobHash());
+            jobSearchService.index(job);
+            savedJobs.add(job);
+        }
+
+        if (!savedJobs.isEmpty()) {
+            jobReadCache.evictAll();
+        }
+
+        // Upserts that matched instead of inserting were written concurrently by someone else
+        duplicates += pending.size() - savedJobs.size() - rejected.size();
+
+        return new IngestionResult(savedJobs.size(), duplicates, failed, savedJobs);
+    }
+
+    /**
+     * 🧠 Normalizes, classifies and hashes a scraped job so it is ready to persist.
+     */
+    public Job prepare(Job job) {
+        Job normalizedJob = jobNormalizerService.normalize(job);
+
+        // One keyword pass feeds both the category and the skills/type/seniority enrichment
+        JobTextMatch match = jobTextMatcher.match(normalizedJob.getTitle(), normalizedJob.getSkills());
+        jobClassifier.classify(normalizedJob, match);
+        jobCategoryService.enrichJob(normalizedJob, match);
+
+        // Generate unique hash for deduplication
+        normalizedJob.setJobHash(jobFingerprint.hash(
+                normalizedJob.getTitle(),
+                normalizedJob.getCompany(),
+                normalizedJob.getLocation()
+        ));
+
+        normalizedJob.setStatus("pending");
+        normalizedJob.setAppliedAt(null);
+        return normalizedJob;
+    }
+
+    /**
+     * Converts the job to a {@code $setOnInsert} update so an existing document is never modified.
+     */
+    private Update insertOnly(Job job) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(job, document);
+        document.remove("_id");
+        document.remove("jobHash"); // seeded from the upsert query
+
+        Update update = new Update();
+        document.forEach(update::setOnInsert);
+        return update;
+    }
+}
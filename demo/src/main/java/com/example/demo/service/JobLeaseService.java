@@ -0,0 +1,187 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.config.AutoApplyDispatchProperties;
+import com.example.demo.model.Job;
+
+/**
+ * 🔒 The queue of pending jobs, and the leases that hand them to auto-apply workers.
+ *
+ * Jobs come off the queue newest first, optionally with one category ahead of the rest.
+ * A job moves {@code pending → leased} in a single {@code findAndModify}, so two workers can
+ * never hold the same job. Workers set the final status themselves; leases they leave
+ * behind (worker crashed, batch abandoned) go back to {@code pending} when released or
+ * once they expire.
+ */
+@Service
+public class JobLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseService.class);
+
+    public static final String PENDING = "pending";
+    public static final String LEASED = "leased";
+
+    // What the browser automation reads from a job (plus what the dashboard counts on)
+    public static final String[] AUTOMATION_FIELDS = { "title", "url", "company", "jobCategory", "postedAt", "status" };
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Autowired
+    private AutoApplyDispatchProperties dispatchProperties;
+
+    @Value("${jobpilot.queue.default-limit:100}")
+    private int defaultLimit;
+
+    @Value("${jobpilot.queue.max-limit:1000}")
+    private int maxLimit;
+
+    /**
+     * 🧹 Jobs stored before every write path set a status have none; make them {@code pending}
+     * so the queue can be a plain equality on an index that covers only pending jobs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void normalizeLegacyStatusOnStartup() {
+        Thread.ofVirtual().name("job-status-backfill").start(() -> {
+            try {
+                long updated = mongoTemplate.updateMulti(new Query(Criteria.where("status").is(null)),
+                        new Update().set("status", PENDING), Job.class).getModifiedCount();
+                if (updated > 0) {
+                    jobReadCache.evictAll();
+                    logger.info("🧹 Marked {} jobs without a status as pending", updated);
+                }
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not normalize legacy job statuses: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 🟢 The next {@code limit} jobs in queue order, without claiming them.
+     */
+    public List<Job> peek(int limit, String category) {
+        List<Job> jobs = new ArrayList<>(limit);
+        for (Criteria tier : priorityTiers(category, List.of())) {
+            jobs.addAll(mongoTemplate.find(inQueueOrder(tier).limit(limit - jobs.size()), Job.class));
+            if (jobs.size() >= limit) break;
+        }
+        return jobs;
+    }
+
+    /**
+     * 🔒 Leases the next {@code limit} jobs in queue order to {@code worker} for the configured lease time.
+     */
+    public List<Job> claim(String worker, int limit, String category) {
+        String owner = "claim:" + (worker == null || worker.isBlank() ? "anonymous" : worker);
+        return lease(owner, limit, Duration.ofSeconds(dispatchProperties.getLeaseSeconds()), List.of(), category);
+    }
+
+    /**
+     * Queue page size: the default when unset, capped at the maximum.
+     */
+    public int resolveLimit(Integer requested) {
+        int limit = requested == null || requested <= 0 ? defaultLimit : requested;
+        return Math.min(limit, maxLimit);
+    }
+
+    public List<Job> lease(String owner, int count, Duration ttl, Collection<String> excludeIds) {
+        return lease(owner, count, ttl, excludeIds, null);
+    }
+
+    /**
+     * 🟢 Leases up to {@code count} pending jobs to {@code owner} in queue order, skipping {@code excludeIds}.
+     * Returns fewer (possibly none) when the queue runs dry.
+     */
+    public List<Job> lease(String owner, int count, Duration ttl, Collection<String> excludeIds, String category) {
+        Update update = new Update()
+                .set("status", LEASED)
+                .set("leaseOwner", owner)
+                .set("leaseExpiresAt", LocalDateTime.now().plus(ttl));
+        FindAndModifyOptions returnNew = FindAndModifyOptions.options().returnNew(true);
+
+        List<Job> leased = new ArrayList<>(count);
+        for (Criteria tier : priorityTiers(category, excludeIds)) {
+            Query query = inQueueOrder(tier);
+            while (leased.size() < count) {
+                Job job = mongoTemplate.findAndModify(query, update, returnNew, Job.class);
+                if (job == null) break;
+                leased.add(job);
+            }
+        }
+        if (!leased.isEmpty()) jobReadCache.evictAll();
+        return leased;
+    }
+
+    /**
+     * 🔓 Returns every job {@code owner} still holds to the queue; returns how many were released.
+     */
+    public long release(String owner) {
+        return returnToQueue(Criteria.where("status").is(LEASED).and("leaseOwner").is(owner));
+    }
+
+    /**
+     * ⏰ Returns expired leases to the queue.
+     */
+    @Scheduled(fixedDelayString = "${jobpilot.autoapply.dispatch.reaper-ms:60000}",
+               initialDelayString = "${jobpilot.autoapply.dispatch.reaper-ms:60000}")
+    public long releaseExpired() {
+        try {
+            long released = returnToQueue(Criteria.where("status").is(LEASED).and("leaseExpiresAt").lt(LocalDateTime.now()));
+            if (released > 0) logger.warn("⏰ Returned {} expired job leases to the queue", released);
+            return released;
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not release expired job leases: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private long returnToQueue(Criteria leased) {
+        Update update = new Update().set("status", PENDING).unset("leaseOwner").unset("leaseExpiresAt");
+        long released = mongoTemplate.updateMulti(new Query(leased), update, Job.class).getModifiedCount();
+        if (released > 0) jobReadCache.evictAll();
+        return released;
+    }
+
+    // The preferred category first, then everything else; without a category, one tier
+    private List<Criteria> priorityTiers(String category, Collection<String> excludeIds) {
+        if (category == null || category.isBlank()) return List.of(pending(excludeIds));
+        return List.of(pending(excludeIds).and("jobCategory").is(category),
+                       pending(excludeIds).and("jobCategory").ne(category));
+    }
+
+    private Criteria pending(Collection<String> excludeIds) {
+        Criteria pending = Criteria.where("status").is(PENDING);
+        if (!excludeIds.isEmpty()) pending = pending.and("_id").nin(excludeIds);
+        return pending;
+    }
+
+    private Query inQueueOrder(Criteria criteria) {
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "postedAt").and(Sort.by(Sort.Direction.DESC, "_id")));
+        query.fields().include(AUTOMATION_FIELDS);
+        return query;
+    }
+}
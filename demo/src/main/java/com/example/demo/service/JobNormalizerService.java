@@ -2,17 +2,131 @@ package com.example.demo.service;
 
 import com.example.demo.model.Job;
 
+import java.time.LocalDateTime;
+
 import org.springframework.stereotype.Service;
 
+/**
+ * 🧹 Normalizes scraped job fields.
+ *
+ * Experience and posted text are parsed in a single pass over their characters with no
+ * regex, producing the same strings and dates as the original {@code replaceAll}-based code
+ * plus structured {@code minYears}/{@code maxYears}.
+ */
 @Service
 public class JobNormalizerService {
 
+    private static final String NOT_SPECIFIED = "Not specified";
+
+    // "day" and "today" packed one lowercase char per byte, compared against a rolling window
+    private static final long DAY = pack("day");
+    private static final long TODAY = pack("today");
+
     public String normalizeExperience(String exp) {
-        if (exp == null || exp.isBlank()) return "Not specified";
-        return exp.toLowerCase()
-                  .replaceAll("[^0-9\\-– ]", "")
-                  .replace("–", "-")
-                  .trim();
+        return parseExperience(exp).getText();
+    }
+
+    /**
+     * 🟢 Parses experience text such as {@code "2–5 Yrs"} or {@code "10+ years"} in one pass.
+     *
+     * The text keeps only digits, dashes and spaces (en dashes become {@code -}), exactly as
+     * before. The first number is {@code minYears}; the second is {@code maxYears}, a single
+     * number is both, and a single number followed by {@code +} leaves {@code maxYears} open.
+     */
+    public Experience parseExperience(String exp) {
+        if (exp == null || exp.isBlank()) return new Experience(NOT_SPECIFIED, null, null);
+
+        StringBuilder text = new StringBuilder(exp.length());
+        int numbers = 0;
+        int current = -1;
+        int min = -1;
+        int max = -1;
+        boolean openEnded = false;
+        boolean fraction = false;
+
+        for (int i = 0; i < exp.length(); i++) {
+            char c = exp.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                text.append(c);
+                if (!fraction) current = current < 0 ? c - '0' : Math.min(current * 10 + (c - '0'), 99);
+                continue;
+            }
+
+            // A number just ended: "1.5" counts as 1, the fraction digits are still kept in the text
+            if (current >= 0 && !(c == '.' && i + 1 < exp.length() && isDigit(exp.charAt(i + 1)))) {
+                if (numbers == 0) min = current;
+                else if (numbers == 1) max = current;
+                numbers++;
+                current = -1;
+                fraction = false;
+            } else if (current >= 0) {
+                fraction = true;
+            }
+
+            if (c == '-' || c == '–') {
+                text.append('-');
+            } else if (c == ' ') {
+                text.append(' ');
+            } else if (c == '+' && numbers == 1) {
+                openEnded = true;
+            }
+        }
+        if (current >= 0) {
+            if (numbers == 0) min = current;
+            else if (numbers == 1) max = current;
+            numbers++;
+        }
+
+        Integer minYears = numbers == 0 ? null : min;
+        Integer maxYears = numbers == 0 || (numbers == 1 && openEnded) ? null : numbers == 1 ? min : max;
+        if (minYears != null && maxYears != null && maxYears < minYears) {
+            int swap = minYears;
+            minYears = maxYears;
+            maxYears = swap;
+        }
+        return new Experience(trimSpaces(text), minYears, maxYears);
+    }
+
+    /**
+     * 🕒 Converts posted text into an absolute time in one pass, or {@code null} when it cannot be read.
+     *
+     * {@code "today"} is now; text mentioning {@code "day"} is now minus its digits read as a
+     * number of days ({@code "30+ days ago"}); anything else falls back to now.
+     */
+    public LocalDateTime parsePostedAt(String posted, LocalDateTime now) {
+        if (posted == null || posted.isBlank()) return null;
+
+        // Last five lowercased characters, one per byte, to spot "today" and "day" while scanning
+        long window = 0;
+        boolean today = false;
+        boolean day = false;
+        long digits = 0;
+        boolean hasDigits = false;
+        boolean overflow = false;
+
+        for (int i = 0; i < posted.length(); i++) {
+            char c = posted.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+                digits = digits * 10 + (c - '0');
+                if (digits > Integer.MAX_VALUE) overflow = true;
+                if (overflow) digits = Integer.MAX_VALUE;
+            }
+
+            char lower = Character.toLowerCase(c);
+            window = (window << 8 | (lower < 128 ? lower : 0)) & 0xFF_FFFF_FFFFL;
+            if ((window & 0xFF_FFFF) == DAY) day = true;
+            if (window == TODAY) today = true;
+        }
+
+        if (today) return now;
+        if (day) {
+            // Same outcome as Integer.parseInt(text.replaceAll("\\D+", "")) failing: leave the date unset
+            if (!hasDigits || overflow) return null;
+            return now.minusDays(digits);
+        }
+        return now;
     }
 
     // Normalize text fields
@@ -20,7 +134,60 @@ public class JobNormalizerService {
         if (job.getTitle() != null) job.setTitle(job.getTitle().trim().toLowerCase());
         if (job.getCompany() != null) job.setCompany(job.getCompany().trim().toLowerCase());
         if (job.getLocation() != null) job.setLocation(job.getLocation().trim().toLowerCase());
-        if (job.getExperience() != null) job.setExperience(normalizeExperience(job.getExperience()));
+        if (job.getExperience() != null) {
+            Experience experience = parseExperience(job.getExperience());
+            job.setExperience(experience.getText());
+            job.setExperienceMin(experience.getMinYears());
+            job.setExperienceMax(experience.getMaxYears());
+        }
         return job;
     }
+
+    private static long pack(String word) {
+        long packed = 0;
+        for (int i = 0; i < word.length(); i++) {
+            packed = packed << 8 | word.charAt(i);
+        }
+        return packed;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static String trimSpaces(StringBuilder text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) == ' ') start++;
+        while (end > start && text.charAt(end - 1) == ' ') end--;
+        return text.substring(start, end);
+    }
+
+    /**
+     * Normalized experience text with its year range; either bound may be {@code null}.
+     */
+    public static final class Experience {
+
+        private final String text;
+        private final Integer minYears;
+        private final Integer maxYears;
+
+        Experience(String text, Integer minYears, Integer maxYears) {
+            this.text = text;
+            this.minYears = minYears;
+            this.maxYears = maxYears;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Integer getMinYears() {
+            return minYears;
+        }
+
+        public Integer getMaxYears() {
+            return maxYears;
+        }
+    }
 }
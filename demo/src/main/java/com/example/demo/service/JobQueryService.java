@@ -0,0 +1,300 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.JobFilter;
+import com.example.demo.dto.JobPage;
+import com.example.demo.model.Job;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 🔍 Runs job listing queries in Mongo instead of filtering {@code findAll()} in memory.
+ *
+ * Filters become {@link Criteria}, results are sorted by {@code postedAt} then {@code _id}
+ * and paged with an opaque keyset cursor, and only the fields the dashboard shows are fetched.
+ * Pages are served from {@link JobReadCache} while the underlying jobs are unchanged.
+ */
+@Service
+public class JobQueryService {
+
+    // Fields rendered by the dashboard; jobHash and the raw posted text are left out
+    static final String[] LIST_FIELDS = {
+        "title", "url", "location", "company", "experience", "experienceMin", "experienceMax", "postedAt", "skills",
+        "jobType", "seniorityLevel", "source", "jobCategory", "status", "appliedAt"
+    };
+
+    private static final String NULL_POSTED_AT = "~";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Value("${jobpilot.query.default-limit:200}")
+    private int defaultLimit;
+
+    @Value("${jobpilot.query.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${jobpilot.query.stream-batch-size:500}")
+    private int streamBatchSize;
+
+    /**
+     * 🟢 Returns one page of jobs matching the filter, newest first unless {@code direction=asc}.
+     */
+    public JobPage filter(JobFilter filter) {
+        return jobReadCache.page(cacheKey(filter), () -> query(filter));
+    }
+
+    private JobPage query(JobFilter filter) {
+        Sort.Direction direction = direction(filter);
+        int limit = resolveLimit(filter.getLimit());
+
+        List<Criteria> criteria = criteria(filter);
+        if (hasText(filter.getCursor())) {
+            criteria.add(afterCursor(filter.getCursor(), direction));
+        }
+
+        Query query = sorted(criteria, direction);
+        query.limit(limit + 1);
+        query.fields().include(LIST_FIELDS);
+
+        List<Job> items = mongoTemplate.find(query, Job.class);
+        return toPage(items, limit);
+    }
+
+    /**
+     * 🌊 Every job matching the filter as one JSON array, for callers that asked for neither a limit
+     * nor a cursor. Limit and cursor are ignored. The filter is checked here, so a bad one throws
+     * {@link IllegalArgumentException} before anything is written. The returned writer streams
+     * straight from a Mongo cursor.
+     */
+    public JobsWriter matchingAll(JobFilter filter) {
+        Query query = sorted(criteria(filter), direction(filter));
+        query.fields().include(LIST_FIELDS);
+        return out -> write(query, out, false);
+    }
+
+    private List<Criteria> criteria(JobFilter filter) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (hasText(filter.getJobType())) {
+            criteria.add(Criteria.where("jobType").is(canonical(filter.getJobType(), JobCategoryService.JOB_TYPES)));
+        }
+        if (hasText(filter.getSeniorityLevel())) {
+            criteria.add(Criteria.where("seniorityLevel").is(canonical(filter.getSeniorityLevel(), JobCategoryService.SENIORITY_LEVELS)));
+        }
+        // Text fields are stored lowercase by JobNormalizerService, so plain case-sensitive patterns are case-insensitive.
+        // Location and company match from the start, which the indexes can bound; title stays a substring match
+        if (hasText(filter.getLocation())) {
+            criteria.add(Criteria.where("location").regex(startingWith(filter.getLocation())));
+        }
+        if (hasText(filter.getCompany())) {
+            criteria.add(Criteria.where("company").regex(startingWith(filter.getCompany())));
+        }
+        if (hasText(filter.getTitle())) {
+            criteria.add(Criteria.where("title").regex(containing(filter.getTitle())));
+        }
+        if (filter.getExperience() != null) {
+            criteria.add(requiringExperience(filter.getExperience()));
+        }
+        return criteria;
+    }
+
+    private static Query sorted(List<Criteria> criteria, Sort.Direction direction) {
+        Query query = new Query();
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+        return query.with(Sort.by(direction, "postedAt").and(Sort.by(direction, "_id")));
+    }
+
+    private static Sort.Direction direction(JobFilter filter) {
+        return "asc".equalsIgnoreCase(filter.getDirection()) ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
+    /**
+     * 🌊 Writes every job straight from a Mongo cursor, newest first, as a JSON array or as NDJSON
+     * (one job per line). Only one cursor batch is held in memory at a time.
+     */
+    public void writeAll(OutputStream out, boolean ndjson) throws IOException {
+        write(sorted(List.of(), Sort.Direction.DESC), out, ndjson);
+    }
+
+    private void write(Query query, OutputStream out, boolean ndjson) throws IOException {
+        query.cursorBatchSize(streamBatchSize);
+
+        // The servlet buffer decides when to flush, not every single job
+        ObjectWriter writer = objectMapper.writerFor(Job.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (ndjson) {
+                generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            } else {
+                generator.writeStartArray();
+            }
+
+            for (Job job : (Iterable<Job>) jobs::iterator) {
+                writer.writeValue(generator, job);
+            }
+
+            if (ndjson) {
+                generator.writeRaw('\n');
+            } else {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    /**
+     * Cache key with every parameter in the form the query uses, so equivalent requests share an entry.
+     */
+    public String cacheKey(JobFilter filter) {
+        StringJoiner key = new StringJoiner("\u001f");
+        key.add(hasText(filter.getJobType()) ? canonical(filter.getJobType(), JobCategoryService.JOB_TYPES) : "");
+        key.add(hasText(filter.getSeniorityLevel()) ? canonical(filter.getSeniorityLevel(), JobCategoryService.SENIORITY_LEVELS) : "");
+        key.add(normalizedText(filter.getLocation()));
+        key.add(normalizedText(filter.getCompany()));
+        key.add(normalizedText(filter.getTitle()));
+        key.add(filter.getExperience() == null ? "" : filter.getExperience().toString());
+        key.add(Integer.toString(resolveLimit(filter.getLimit())));
+        key.add("asc".equalsIgnoreCase(filter.getDirection()) ? "asc" : "desc");
+        key.add(hasText(filter.getCursor()) ? filter.getCursor() : "");
+        return key.toString();
+    }
+
+    /**
+     * Trims the look-ahead row and builds the cursor for the next page.
+     */
+    static JobPage toPage(List<Job> items, int limit) {
+        if (items.size() <= limit) {
+            return new JobPage(items, null);
+        }
+        List<Job> page = new ArrayList<>(items.subList(0, limit));
+        return new JobPage(page, encodeCursor(page.get(page.size() - 1)));
+    }
+
+    int resolveLimit(Integer requested) {
+        int limit = requested == null || requested <= 0 ? defaultLimit : requested;
+        return Math.min(limit, maxLimit);
+    }
+
+    static String encodeCursor(Job last) {
+        String postedAt = last.getPostedAt() == null ? NULL_POSTED_AT : last.getPostedAt().toString();
+        String raw = postedAt + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Keyset condition for rows strictly after the cursor in (postedAt, _id) order.
+     * Mongo sorts null postedAt lowest, so nulls come last when descending and first when ascending.
+     */
+    static Criteria afterCursor(String cursor, Sort.Direction direction) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        int separator = raw.lastIndexOf('|');
+        if (separator < 0 || !ObjectId.isValid(raw.substring(separator + 1))) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+
+        String postedText = raw.substring(0, separator);
+        ObjectId id = new ObjectId(raw.substring(separator + 1));
+        LocalDateTime postedAt;
+        try {
+            postedAt = NULL_POSTED_AT.equals(postedText) ? null : LocalDateTime.parse(postedText);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        boolean descending = direction == Sort.Direction.DESC;
+
+        Criteria sameDateNextId = descending ? Criteria.where("_id").lt(id) : Criteria.where("_id").gt(id);
+
+        if (postedAt == null) {
+            Criteria nullDates = new Criteria().andOperator(Criteria.where("postedAt").is(null), sameDateNextId);
+            return descending ? nullDates : new Criteria().orOperator(nullDates, Criteria.where("postedAt").ne(null));
+        }
+
+        Criteria laterDates = descending ? Criteria.where("postedAt").lt(postedAt) : Criteria.where("postedAt").gt(postedAt);
+        Criteria sameDate = new Criteria().andOperator(Criteria.where("postedAt").is(postedAt), sameDateNextId);
+        return descending
+                ? new Criteria().orOperator(laterDates, sameDate, Criteria.where("postedAt").is(null))
+                : new Criteria().orOperator(laterDates, sameDate);
+    }
+
+    /**
+     * Jobs open to someone with {@code years} of experience: {@code experienceMin <= years <= experienceMax},
+     * where a missing maximum ("10+ Yrs") is open-ended. Jobs without a parsed range never match.
+     */
+    static Criteria requiringExperience(int years) {
+        if (years < 0) {
+            throw new IllegalArgumentException("experience must be zero or more years");
+        }
+        return new Criteria().andOperator(
+                Criteria.where("experienceMin").lte(years),
+                new Criteria().orOperator(Criteria.where("experienceMax").gte(years), Criteria.where("experienceMax").is(null))
+        );
+    }
+
+    private static String canonical(String value, List<String> known) {
+        for (String candidate : known) {
+            if (candidate.equalsIgnoreCase(value.trim())) return candidate;
+        }
+        return value.trim();
+    }
+
+    private static String normalizedText(String value) {
+        return hasText(value) ? value.trim().toLowerCase() : "";
+    }
+
+    private static String containing(String value) {
+        return Pattern.quote(value.trim().toLowerCase());
+    }
+
+    static String startingWith(String value) {
+        return "^" + containing(value);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Writes a prepared job listing to a response body.
+     */
+    @FunctionalInterface
+    public interface JobsWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.JobPage;
+import com.example.demo.model.Job;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 🗃️ Size- and TTL-bounded cache for the dashboard's job read paths.
+ *
+ * Listing pages are keyed by their normalized filter, queue peeks by limit and category.
+ * A status change evicts only the pages that contain that job (plus the queue peeks);
+ * a new or reclassified job can land on any page, so it clears everything. Hit, miss and
+ * eviction counts are published as {@code cache.*} metrics under Actuator.
+ *
+ * Every eviction also bumps the collection version that the listing endpoints turn into
+ * ETags, so an unchanged poll is answered with 304 before any query runs.
+ */
+@Service
+public class JobReadCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jobpilot.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jobpilot.cache.max-entries:1000}")
+    private long maxEntries;
+
+    @Value("${jobpilot.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, CachedPage> pages;
+    private Cache<String, List<Job>> unapplied;
+
+    // Collection version: bumped by every write so loads that overlap one are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    // Distinguishes this process's versions from those of a previous run or another instance
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+
+    @PostConstruct
+    void init() {
+        pages = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        unapplied = Caffeine.newBuilder()
+                .maximumSize(64)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "jobPages");
+        CaffeineCacheMetrics.monitor(meterRegistry, unapplied, "unappliedJobs");
+    }
+
+    /**
+     * Returns the cached page for {@code key}, loading and caching it on a miss.
+     */
+    public JobPage page(String key, Supplier<JobPage> loader) {
+        if (!enabled) return loader.get();
+        CachedPage cached = pages.getIfPresent(key);
+        if (cached != null) return cached.page;
+
+        long loadedAt = generation.get();
+        CachedPage loaded = new CachedPage(loader.get());
+        putUnlessEvicted(pages, key, loaded, loadedAt);
+        return loaded.page;
+    }
+
+    public List<Job> unapplied(String key, Supplier<List<Job>> loader) {
+        if (!enabled) return loader.get();
+        List<Job> cached = unapplied.getIfPresent(key);
+        if (cached != null) return cached;
+
+        long loadedAt = generation.get();
+        List<Job> loaded = List.copyOf(loader.get());
+        putUnlessEvicted(unapplied, key, loaded, loadedAt);
+        return loaded;
+    }
+
+    /**
+     * 🔄 A job's status changed: drop the pages that show it and the queue peeks.
+     */
+    public void evictJob(String jobId) {
+        generation.incrementAndGet();
+        unapplied.invalidateAll();
+        pages.asMap().values().removeIf(cached -> cached.jobIds.contains(jobId));
+    }
+
+    /**
+     * 🔄 Several jobs changed status at once: one version bump, one pass over the cached pages.
+     */
+    public void evictJobs(Collection<String> jobIds) {
+        if (jobIds.isEmpty()) return;
+        generation.incrementAndGet();
+        unapplied.invalidateAll();
+        pages.asMap().values().removeIf(cached -> !Collections.disjoint(cached.jobIds, jobIds));
+    }
+
+    /**
+     * 🔄 Jobs were added or relabelled: any page may have changed.
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        unapplied.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    /**
+     * Current collection version; changes whenever a job is added, relabelled or changes status.
+     */
+    public long version() {
+        return generation.get();
+    }
+
+    /**
+     * 🏷️ Strong ETag for a response identified by {@code requestKey} at the current collection version.
+     * Read it before querying so a write during the query only ever makes the tag older.
+     */
+    public String etag(String requestKey) {
+        return "\"" + epoch + "-" + version() + "-" + Integer.toHexString(requestKey.hashCode()) + "\"";
+    }
+
+    /**
+     * Caches a value unless an eviction ran while it was loading, in which case it may already be stale.
+     */
+    private <V> void putUnlessEvicted(Cache<String, V> cache, String key, V value, long loadedAt) {
+        cache.put(key, value);
+        if (generation.get() != loadedAt) cache.invalidate(key);
+    }
+
+    /**
+     * A page plus the ids on it, so status changes can evict precisely.
+     */
+    private static final class CachedPage {
+
+        private final JobPage page;
+        private final Set<String> jobIds;
+
+        CachedPage(JobPage page) {
+            this.page = new JobPage(List.copyOf(page.getItems()), page.getNextCursor());
+            this.jobIds = new HashSet<>();
+            for (Job job : page.getItems()) {
+                jobIds.add(job.getId());
+            }
+        }
+    }
+}
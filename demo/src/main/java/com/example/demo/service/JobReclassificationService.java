@@ -0,0 +1,169 @@
+package com.example.demo.service;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.ReclassificationReport;
+import com.example.demo.model.Job;
+import com.example.demo.service.JobTextMatcher.CompiledRules;
+import com.example.demo.service.JobTextMatcher.JobTextMatch;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 🔁 Re-applies the active classification rules to every stored job.
+ *
+ * Streams a projection of the keyword inputs and current labels, classifies each job with
+ * one pinned rule version and writes only the jobs whose labels changed, one unordered bulk
+ * update per batch. Stored skills are left alone: they may have been scraped, so they are
+ * treated as input rather than output.
+ *
+ * Runs go to a background virtual thread; callers get a run id and poll {@link #find(String)}.
+ */
+@Service
+public class JobReclassificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobReclassificationService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Autowired
+    private JobTextMatcher jobTextMatcher;
+
+    @Value("${jobpilot.classification.reclassify-batch-size:500}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // Recent runs by id, for status polling
+    private final Cache<String, ReclassificationReport> runs = Caffeine.newBuilder().maximumSize(100).build();
+
+    /**
+     * 🟢 Starts reclassifying all jobs in the background and returns the running report;
+     * throws {@link IllegalStateException} if a run is already in progress.
+     */
+    public ReclassificationReport start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Reclassification is already running");
+        }
+        try {
+            // Pinned now, so the run uses the rules that were active when it was requested
+            CompiledRules rules = jobTextMatcher.current();
+            String runId = UUID.randomUUID().toString();
+            ReclassificationReport report = new ReclassificationReport(runId, ReclassificationReport.RUNNING, rules.getVersion());
+            runs.put(runId, report);
+            Thread.ofVirtual().name("job-reclassify").start(() -> execute(runId, rules));
+            return report;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * The report of a recent run, while running or after it finished.
+     */
+    public Optional<ReclassificationReport> find(String runId) {
+        return Optional.ofNullable(runs.getIfPresent(runId));
+    }
+
+    private void execute(String runId, CompiledRules rules) {
+        ReclassificationReport report;
+        try {
+            report = run(runId, rules);
+        } catch (Exception e) {
+            logger.error("❌ Reclassification {} failed: {}", runId, e.getMessage());
+            report = new ReclassificationReport(runId, ReclassificationReport.FAILED, rules.getVersion());
+            report.setError(e.getMessage());
+        }
+        // Free the slot first, so a caller who sees the final report can start the next run right away
+        running.set(false);
+        runs.put(runId, report);
+    }
+
+    private ReclassificationReport run(String runId, CompiledRules rules) {
+        long startedAt = System.currentTimeMillis();
+        String collection = mongoTemplate.getCollectionName(Job.class);
+
+        Query query = new Query();
+        query.fields().include("title", "skills", "jobCategory", "jobType", "seniorityLevel");
+        query.cursorBatchSize(batchSize);
+
+        long scanned = 0;
+        long updated = 0;
+        BulkOperations bulkOps = null;
+        int pending = 0;
+
+        try (Stream<Document> jobs = mongoTemplate.stream(query, Document.class, collection)) {
+            for (Document job : (Iterable<Document>) jobs::iterator) {
+                scanned++;
+                Update update = changes(job, rules);
+                if (update == null) continue;
+
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                }
+                bulkOps.updateOne(Query.query(Criteria.where("_id").is(job.get("_id"))), update);
+                if (++pending >= batchSize) {
+                    updated += bulkOps.execute().getModifiedCount();
+                    bulkOps = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (bulkOps != null) {
+            updated += bulkOps.execute().getModifiedCount();
+        }
+
+        if (updated > 0) {
+            jobReadCache.evictAll();
+        }
+
+        long wallTimeMs = System.currentTimeMillis() - startedAt;
+        logger.info("🔁 Reclassification {} with rules v{}: scanned={}, updated={} in {} ms",
+                runId, rules.getVersion(), scanned, updated, wallTimeMs);
+        return new ReclassificationReport(runId, rules.getVersion(), scanned, updated, wallTimeMs);
+    }
+
+    /**
+     * The label updates for one job, or {@code null} when nothing changed.
+     */
+    private Update changes(Document job, CompiledRules rules) {
+        String title = job.getString("title");
+        JobTextMatch match = rules.match(title, job.getString("skills"));
+
+        Update update = new Update();
+        boolean changed = set(update, job, "jobCategory", match.getCategory());
+        // Type and seniority are only assigned to titled jobs, as in JobCategoryService.enrichJob
+        if (title != null) {
+            changed |= set(update, job, "jobType", match.getJobType());
+            changed |= set(update, job, "seniorityLevel", match.getSeniorityLevel());
+        }
+        return changed ? update : null;
+    }
+
+    private static boolean set(Update update, Document job, String field, String value) {
+        if (Objects.equals(job.getString(field), value)) return false;
+        update.set(field, value);
+        return true;
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.model.Job;
+
+/**
+ * 🔎 Ranked full-text search over title, company, skills and location.
+ *
+ * Matching runs on the Mongo text index ({@code job_text}). Mongo only matches whole (stemmed)
+ * words, so each query word is first expanded against an in-memory vocabulary of indexed words:
+ * words it is a prefix of, and words with the same first letter one edit away (two for long words).
+ *
+ * The text query asks for no score: sorting by score makes Mongo score and sort every match
+ * before the limit, which for common words ("engineer") is a large share of the collection.
+ * Instead at most {@code jobpilot.search.max-candidates} matches are read and ranked here with
+ * the index weights, so the cost is bounded but, past that many matches, results come from the
+ * first candidates the index returns rather than the whole match set.
+ *
+ * The vocabulary is built from a projection at startup, rebuilt every
+ * {@code jobpilot.search.vocabulary-rebuild-ms} (dropping words of deleted jobs), capped at
+ * {@code jobpilot.search.max-vocabulary} words, and extended on every save in between.
+ */
+@Service
+public class JobSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchService.class);
+
+    static final String[] SEARCH_FIELDS = { "title", "company", "skills", "location" };
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_TYPO_LENGTH = 4;
+    private static final int LONG_WORD_LENGTH = 8;
+
+    // Same weights as the job_text index; a word matched only through an expansion counts half
+    private static final int TITLE_WEIGHT = 10;
+    private static final int SKILLS_WEIGHT = 5;
+    private static final int COMPANY_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final double EXPANSION_FACTOR = 0.5;
+
+    // Closest prefix extensions first: "dev" -> "devs", "devops" before "developer"
+    private static final Comparator<String> SHORTEST_FIRST =
+            Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
+    private static final Comparator<LocalDateTime> NEWEST_FIRST = Comparator.nullsLast(Comparator.reverseOrder());
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${jobpilot.search.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${jobpilot.search.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${jobpilot.search.max-expansions:10}")
+    private int maxExpansions;
+
+    @Value("${jobpilot.search.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Value("${jobpilot.search.max-vocabulary:500000}")
+    private int maxVocabulary;
+
+    // Every distinct word seen in the searchable fields, sorted so prefixes are a range scan
+    private volatile Vocabulary vocabulary = new Vocabulary();
+
+    // Set while a rebuild streams the collection, so words saved meanwhile are not lost in the swap
+    private volatile Vocabulary rebuilding;
+
+    // Not synchronized: the startup rebuild runs on a virtual thread and would pin its carrier while Mongo blocks
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        Thread.ofVirtual().name("job-search-warmup").start(this::rebuildVocabulary);
+    }
+
+    /**
+     * 🔄 Builds a fresh vocabulary from a projection of the searchable fields and swaps it in.
+     */
+    @Scheduled(fixedDelayString = "${jobpilot.search.vocabulary-rebuild-ms:21600000}",
+               initialDelayString = "${jobpilot.search.vocabulary-rebuild-ms:21600000}")
+    public void rebuildVocabulary() {
+        rebuildLock.lock();
+        long startedAt = System.currentTimeMillis();
+        Vocabulary fresh = new Vocabulary();
+        rebuilding = fresh;
+        try {
+            Query query = new Query();
+            query.fields().include(SEARCH_FIELDS).exclude("_id");
+
+            try (Stream<Document> docs = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(Job.class))) {
+                for (Document doc : (Iterable<Document>) docs::iterator) {
+                    for (String field : SEARCH_FIELDS) {
+                        Object value = doc.get(field);
+                        if (value instanceof String text) fresh.addAll(tokenize(text), maxVocabulary);
+                    }
+                }
+            }
+            vocabulary = fresh;
+            logger.info("🔎 Search vocabulary built with {} words in {} ms{}", fresh.size(),
+                    System.currentTimeMillis() - startedAt, fresh.size() >= maxVocabulary ? " (capped)" : "");
+        } catch (Exception e) {
+            logger.warn("⚠️ Search vocabulary rebuild failed, keeping the previous one: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Records the searchable words of a job after it has been stored.
+     */
+    public void index(Job job) {
+        addWords(job.getTitle());
+        addWords(job.getCompany());
+        addWords(job.getSkills());
+        addWords(job.getLocation());
+    }
+
+    /**
+     * 🟢 Returns up to {@code limit} jobs matching any word of {@code q}, best matches first.
+     */
+    public List<Job> search(String q, Integer limit) {
+        List<String> words = tokenize(q);
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("Query must contain at least one word");
+        }
+
+        Set<String> exact = new LinkedHashSet<>(words);
+        Set<String> terms = new LinkedHashSet<>(words);
+        for (String word : words) {
+            terms.addAll(expand(word));
+        }
+
+        // No score projection or sort, so the text index can stop after max-candidates matches
+        TextQuery query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matchingAny(terms.toArray(new String[0])));
+        query.fields().include(JobQueryService.LIST_FIELDS);
+        query.limit(maxCandidates);
+
+        return rank(mongoTemplate.find(query, Job.class), exact, terms, resolveLimit(limit));
+    }
+
+    /**
+     * The best {@code limit} candidates by weighted word matches (title > skills > company > location),
+     * newest first on ties.
+     */
+    static List<Job> rank(List<Job> candidates, Set<String> exact, Set<String> terms, int limit) {
+        record Scored(Job job, double score) {}
+
+        List<Scored> scored = new ArrayList<>(candidates.size());
+        for (Job job : candidates) {
+            double score = TITLE_WEIGHT * matches(job.getTitle(), exact, terms)
+                    + SKILLS_WEIGHT * matches(job.getSkills(), exact, terms)
+                    + COMPANY_WEIGHT * matches(job.getCompany(), exact, terms)
+                    + LOCATION_WEIGHT * matches(job.getLocation(), exact, terms);
+            scored.add(new Scored(job, score));
+        }
+        scored.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(s -> s.job().getPostedAt(), NEWEST_FIRST));
+
+        List<Job> ranked = new ArrayList<>(Math.min(limit, scored.size()));
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            ranked.add(scored.get(i).job());
+        }
+        return ranked;
+    }
+
+    // Distinct words of one field found among the query words (1) or their expansions (0.5)
+    private static double matches(String text, Set<String> exact, Set<String> terms) {
+        double total = 0;
+        for (String word : new HashSet<>(tokenize(text))) {
+            if (exact.contains(word)) total += 1;
+            else if (terms.contains(word)) total += EXPANSION_FACTOR;
+        }
+        return total;
+    }
+
+    /**
+     * Vocabulary words that extend {@code word} (shortest first), then words one edit away, then
+     * two edits away (long words only), capped at {@code jobpilot.search.max-expansions}.
+     */
+    List<String> expand(String word) {
+        List<String> expansions = new ArrayList<>();
+        NavigableSet<String> words = vocabulary.words;
+
+        if (word.length() >= MIN_PREFIX_LENGTH) {
+            // Keeps only the max-expansions shortest extensions while scanning the prefix range
+            TreeSet<String> closest = new TreeSet<>(SHORTEST_FIRST);
+            for (String candidate : words.subSet(word, false, word + Character.MAX_VALUE, false)) {
+                closest.add(candidate);
+                if (closest.size() > maxExpansions) closest.pollLast();
+            }
+            expansions.addAll(closest);
+        }
+
+        if (word.length() >= MIN_TYPO_LENGTH) {
+            int maxEdits = word.length() >= LONG_WORD_LENGTH ? 2 : 1;
+            List<String> oneEdit = new ArrayList<>();
+            List<String> twoEdits = new ArrayList<>();
+            // Like a fuzzy query with prefix length 1: only words sharing the first letter are compared
+            String first = word.substring(0, 1);
+            for (String candidate : words.subSet(first, true, first + Character.MAX_VALUE, false)) {
+                if (Math.abs(candidate.length() - word.length()) > maxEdits || candidate.equals(word)) continue;
+                int distance = editDistance(word, candidate, maxEdits);
+                if (distance == 1) oneEdit.add(candidate);
+                else if (distance == 2 && maxEdits == 2) twoEdits.add(candidate);
+            }
+            for (String candidate : oneEdit) {
+                if (expansions.size() >= maxExpansions) return expansions;
+                if (!expansions.contains(candidate)) expansions.add(candidate);
+            }
+            for (String candidate : twoEdits) {
+                if (expansions.size() >= maxExpansions) return expansions;
+                if (!expansions.contains(candidate)) expansions.add(candidate);
+            }
+        }
+        return expansions;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions),
+     * returning {@code max + 1} as soon as the distance is known to exceed {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        int[] previous2 = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) previous[j] = j;
+
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) return max + 1;
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[m], max + 1);
+    }
+
+    /**
+     * Lowercase words made of letters and digits; single characters are dropped.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) return words;
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start > 1) words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private void addWords(String text) {
+        List<String> words = tokenize(text);
+        vocabulary.addAll(words, maxVocabulary);
+        Vocabulary next = rebuilding;
+        if (next != null) next.addAll(words, maxVocabulary);
+    }
+
+    private int resolveLimit(Integer requested) {
+        int limit = requested == null || requested <= 0 ? defaultLimit : requested;
+        return Math.min(limit, maxLimit);
+    }
+
+    private static final class Vocabulary {
+
+        private final NavigableSet<String> words = new ConcurrentSkipListSet<>();
+        // ConcurrentSkipListSet.size() walks the whole set
+        private final AtomicInteger size = new AtomicInteger();
+
+        void addAll(List<String> candidates, int max) {
+            for (String word : candidates) {
+                if (size.get() >= max) return;
+                if (words.add(word)) size.incrementAndGet();
+            }
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+}
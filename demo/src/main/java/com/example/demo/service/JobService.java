@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
-import java.security.MessageDigest;
+import java.io.IOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -10,13 +11,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.example.demo.dto.IngestionResult;
 import com.example.demo.dto.JobResponse;
 import com.example.demo.model.Job;
 import com.example.demo.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 public class JobService {
@@ -33,17 +42,186 @@ public class JobService {
     private JobCategoryService jobCategoryService;
 
     @Autowired
-    private JobClassifier jobClassifier;
+    private JobIngestionService jobIngestionService;
+
+    @Autowired
+    private JobDedupIndex jobDedupIndex;
+
+    @Autowired
+    private JobSearchService jobSearchService;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JobFingerprint jobFingerprint;
+
+    @Autowired
+    private HostRateLimiter hostRateLimiter;
+
+    @Autowired
+    private RestTemplate scraperRestTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @Value("${jobpilot.scraper.base-url:http://localhost:5000/scrape-jobs}")
     private String fastApiBaseUrl;
 
+    @Value("${jobpilot.ingestion.bulk-enabled:true}")
+    private boolean bulkIngestionEnabled;
+
+    @Value("${jobpilot.scraper.streaming-enabled:true}")
+    private boolean streamingEnabled;
+
+    @Value("${jobpilot.scraper.stream-chunk-size:50}")
+    private int streamChunkSize;
+
     /**
      * 🟢 Scrapes jobs from FastAPI microservice and safely saves unique ones.
      */
     public List<Job> scrapeJobs(String role, String location, String experienceFilter, String posted, int pages) {
-        RestTemplate restTemplate = new RestTemplate();
+        IngestionResult result;
+        try {
+            result = scrapeAndIngest(role, location, experienceFilter, posted, pages, true);
+        } catch (Exception e) {
+            logger.error("❌ Failed to fetch jobs from scraper API: {}", e.getMessage());
+            return List.of();
+        }
+
+        if (result.getInserted() + result.getDuplicates() + result.getFailed() == 0) {
+            logger.warn("⚠️ No jobs received from scraper API.");
+        }
+        return result.getSavedJobs();
+    }
+
+    /**
+     * 🔁 Scrapes and persists one query, streaming chunk by chunk when
+     * {@code jobpilot.scraper.streaming-enabled} is set. Errors are propagated.
+     *
+     * @param keepSavedJobs whether the result should carry the saved jobs or only the counts
+     */
+    public IngestionResult scrapeAndIngest(String role, String location, String experienceFilter, String posted,
+                                           int pages, boolean keepSavedJobs) {
+        awaitScraperSlot();
+        if (streamingEnabled) {
+            return streamJobs(role, location, experienceFilter, posted, pages, keepSavedJobs);
+        }
+
+        IngestionResult result = ingestJobs(fetchJobs(role, location, experienceFilter, posted, pages));
+        if (!keepSavedJobs) {
+            result.getSavedJobs().clear();
+        }
+        return result;
+    }
+
+    // Every scrape, from /scrape or a campaign, waits for the same per-host slot
+    private void awaitScraperSlot() {
+        try {
+            hostRateLimiter.acquire(URI.create(fastApiBaseUrl).getHost());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the scraper rate limit", e);
+        }
+    }
+
+    /**
+     * 📡 Calls the FastAPI scraper and returns the raw (not yet normalized) jobs.
+     * Errors are propagated so callers can report them per query.
+     */
+    public List<Job> fetchJobs(String role, String location, String experienceFilter, String posted, int pages) {
+        String url = buildScrapeUrl(role, location, experienceFilter, posted, pages);
+        logger.info("📡 Fetching jobs from scraper API: {}", url);
+
+        JobResponse response = scraperRestTemplate.getForObject(url, JobResponse.class);
+        if (response == null || response.getJobs() == null) {
+            return List.of();
+        }
+        return response.getJobs();
+    }
+
+    /**
+     * 🌊 Streams the scraper response and persists it in chunks of {@code jobpilot.scraper.stream-chunk-size}.
+     *
+     * Jobs are read one at a time with Jackson's streaming parser, from either an NDJSON body or the
+     * regular {@code {"jobs": [...]}} document, so memory stays flat no matter how many pages are requested.
+     */
+    public IngestionResult streamJobs(String role, String location, String experienceFilter, String posted,
+                                      int pages, boolean keepSavedJobs) {
+        String url = buildScrapeUrl(role, location, experienceFilter, posted, pages);
+        logger.info("🌊 Streaming jobs from scraper API: {}", url);
+
+        return scraperRestTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)),
+                response -> readInChunks(response, keepSavedJobs));
+    }
+
+    private IngestionResult readInChunks(ClientHttpResponse response, boolean keepSavedJobs) throws IOException {
+        IngestionResult total = new IngestionResult();
+        List<Job> chunk = new ArrayList<>(Math.max(1, streamChunkSize));
+        MediaType contentType = response.getHeaders().getContentType();
 
+        try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+            if (contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+                // One JSON object per line
+                MappingIterator<Job> jobs = objectMapper.readerFor(Job.class).readValues(parser);
+                while (jobs.hasNext()) {
+                    chunk.add(jobs.next());
+                    flushIfFull(chunk, total, keepSavedJobs);
+                }
+            } else if (moveToJobsArray(parser)) {
+                // {"jobs": [ {...}, {...} ]}
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    chunk.add(objectMapper.readValue(parser, Job.class));
+                    flushIfFull(chunk, total, keepSavedJobs);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            flush(chunk, total, keepSavedJobs);
+        }
+        return total;
+    }
+
+    private void flushIfFull(List<Job> chunk, IngestionResult total, boolean keepSavedJobs) {
+        if (chunk.size() >= Math.max(1, streamChunkSize)) {
+            flush(chunk, total, keepSavedJobs);
+        }
+    }
+
+    private void flush(List<Job> chunk, IngestionResult total, boolean keepSavedJobs) {
+        IngestionResult result = ingestJobs(chunk);
+        if (!keepSavedJobs) {
+            result.getSavedJobs().clear();
+        }
+        total.merge(result);
+        chunk.clear();
+    }
+
+    /**
+     * Advances the parser to the start of the {@code jobs} array (or a bare top-level array).
+     */
+    private boolean moveToJobsArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) return true;
+        if (token != JsonToken.START_OBJECT) return false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("jobs".equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private String buildScrapeUrl(String role, String location, String experienceFilter, String posted, int pages) {
         // ✅ Build encoded URL safely (handles spaces and special characters)
         UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(fastApiBaseUrl)
                 .queryParam("role", role)
@@ -58,100 +236,87 @@ public class JobService {
         int pagesToUse = Math.max(1, pages);
         uriBuilder.queryParam("pages", pagesToUse);
 
-    // Build and encode the URI (auto-encodes spaces and special chars)
-    String url = uriBuilder.build().encode().toUriString();
-        logger.info("📡 Fetching jobs from scraper API: {}", url);
-
-        JobResponse response;
-        try {
-            response = restTemplate.getForObject(url, JobResponse.class);
-        } catch (Exception e) {
-            logger.error("❌ Failed to fetch jobs from scraper API: {}", e.getMessage());
-            return List.of();
-        }
+        // Build and encode the URI (auto-encodes spaces and special chars)
+        return uriBuilder.build().encode().toUriString();
+    }
 
-        if (response == null || response.getJobs() == null) {
-            logger.warn("⚠️ No jobs received from scraper API.");
-            return List.of();
+    /**
+     * 📦 Normalizes, deduplicates and persists scraped jobs.
+     * Bulk mode does one hash lookup + one bulk upsert per batch and returns only newly inserted jobs.
+     */
+    public IngestionResult ingestJobs(List<Job> scrapedJobs) {
+        if (bulkIngestionEnabled) {
+            return jobIngestionService.ingest(scrapedJobs);
         }
 
-        List<Job> scrapedJobs = response.getJobs();
         List<Job> savedJobs = new ArrayList<>();
+        int duplicates = 0;
+        int failed = 0;
 
         for (Job job : scrapedJobs) {
             try {
-                // Normalize & enrich job data
-                Job normalizedJob = jobNormalizerService.normalize(job);
-                jobClassifier.classify(normalizedJob);
-                jobCategoryService.enrichJob(normalizedJob);
-
-                // Generate unique hash for deduplication
-                normalizedJob.setJobHash(generateJobHash(
-                        normalizedJob.getTitle(),
-                        normalizedJob.getCompany(),
-                        normalizedJob.getLocation()
-                ));
-
-                normalizedJob.setStatus("pending");
-                normalizedJob.setAppliedAt(null);
+                // Normalize, enrich & hash job data
+                Job normalizedJob = jobIngestionService.prepare(job);
 
                 // 🧠 Safe save with deduplication
-                Job savedJob = saveJobSafely(normalizedJob);
-                if (savedJob != null) {
-                    savedJobs.add(savedJob);
+                SaveResult result = saveJobSafely(normalizedJob);
+                if (result == null) {
+                    failed++;
+                } else if (result.inserted()) {
+                    savedJobs.add(result.job());
+                } else {
+                    duplicates++;
                 }
 
             } catch (Exception e) {
+                failed++;
                 logger.error("❌ Error processing job '{}': {}", job.getTitle(), e.getMessage());
             }
         }
 
-        logger.info("💾 Total new jobs saved: {}", savedJobs.size());
-        return savedJobs;
+        logger.info("💾 Total new jobs saved: {} (duplicates={}, failed={})", savedJobs.size(), duplicates, failed);
+        return new IngestionResult(savedJobs.size(), duplicates, failed, savedJobs);
     }
 
     /**
-     * 🧩 Safely saves a job — handles DB constraint exceptions gracefully.
+     * A saved job, or the job already stored under the same hash ({@code inserted == false}).
+     */
+    private record SaveResult(Job job, boolean inserted) {}
+
+    /**
+     * 🧩 Safely saves a job — handles DB constraint exceptions gracefully; returns null on failure.
      */
-    private Job saveJobSafely(Job job) {
+    private SaveResult saveJobSafely(Job job) {
         try {
-            // Pre-check to skip duplicates
-            Optional<Job> existing = jobRepository.findByJobHash(job.getJobHash());
-            if (existing.isPresent()) {
-                logger.warn("⚠️ Duplicate found before save: {} at {}", job.getTitle(), job.getCompany());
-                return existing.get();
+            // Pre-check to skip duplicates (only when the dedup index may have seen this hash)
+            if (jobDedupIndex.mightContain(job.getJobHash())) {
+                Optional<Job> existing = jobRepository.findByJobHash(job.getJobHash());
+                if (existing.isPresent()) {
+                    logger.warn("⚠️ Duplicate found before save: {} at {}", job.getTitle(), job.getCompany());
+                    return new SaveResult(existing.get(), false);
+                }
             }
 
             Job saved = jobRepository.save(job);
+            jobDedupIndex.add(saved.getJobHash());
+            jobSearchService.index(saved);
+            jobReadCache.evictAll();
             logger.info("✅ Saved new job: {} at {}", job.getTitle(), job.getCompany());
-            return saved;
+            return new SaveResult(saved, true);
 
         } catch (DataIntegrityViolationException e) {
             // If another process already inserted same job
             logger.warn("⚠️ Duplicate detected during save (DB constraint): {}", job.getTitle());
-            return jobRepository.findByJobHash(job.getJobHash()).orElse(null);
+            jobDedupIndex.add(job.getJobHash());
+            return jobRepository.findByJobHash(job.getJobHash())
+                    .map(existing -> new SaveResult(existing, false))
+                    .orElse(null);
         } catch (Exception e) {
             logger.error("❌ Unexpected error while saving job '{}': {}", job.getTitle(), e.getMessage());
             return null;
         }
     }
 
-    /**
-     * 🧠 Deterministic MD5 hash generator for deduplication
-     */
-    private String generateJobHash(String title, String company, String location) {
-        try {
-            String raw = (title + "|" + company + "|" + location).toLowerCase().trim();
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] bytes = md.digest(raw.getBytes());
-            StringBuilder sb = new StringBuilder();
-            for (byte b : bytes) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating job hash", e);
-        }
-    }
-
     /**
      * 🟢 Add a job manually (from controller)
      */
@@ -159,7 +324,7 @@ public class JobService {
         try {
             Job normalizedJob = jobNormalizerService.normalize(job);
             jobCategoryService.enrichJob(normalizedJob);
-            normalizedJob.setJobHash(generateJobHash(
+            normalizedJob.setJobHash(jobFingerprint.hash(
                     normalizedJob.getTitle(),
                     normalizedJob.getCompany(),
                     normalizedJob.getLocation()
@@ -167,7 +332,8 @@ public class JobService {
             normalizedJob.setStatus("pending");
             normalizedJob.setAppliedAt(null);
 
-            return saveJobSafely(normalizedJob);
+            SaveResult result = saveJobSafely(normalizedJob);
+            return result == null ? null : result.job();
 
         } catch (Exception e) {
             logger.error("❌ Error manually adding job '{}': {}", job.getTitle(), e.getMessage());
@@ -181,4 +347,16 @@ public class JobService {
     public List<Job> getAllJobs() {
         return jobRepository.findAll();
     }
+
+    /**
+     * 🟢 The next {@code limit} jobs waiting to be applied to, newest first with {@code category} (optional) ahead
+     * (cached until a job is added or its status changes)
+     */
+    public List<Job> getUnappliedJobs(int limit, String category) {
+        return jobReadCache.unapplied(unappliedKey(limit, category), () -> jobLeaseService.peek(limit, category));
+    }
+
+    public String unappliedKey(int limit, String category) {
+        return "unapplied|" + limit + "|" + (category == null ? "" : category.trim());
+    }
 }
@@ -0,0 +1,147 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.JobStatusBatchReport;
+import com.example.demo.dto.JobStatusUpdate;
+import com.example.demo.dto.JobStatusUpdateResult;
+import com.example.demo.model.Job;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * 📦 Writes auto-apply results for many jobs in one round trip.
+ *
+ * Every valid item becomes a {@code $set} by {@code _id} in a single unordered bulk write,
+ * without reading the jobs first. Ids are only looked up afterwards, and only when fewer
+ * jobs matched than were sent, to tell which ones do not exist.
+ */
+@Service
+public class JobStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobStatusService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobReadCache jobReadCache;
+
+    @Value("${jobpilot.status.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    /**
+     * 🟢 Applies every update and returns one result per item, in request order.
+     * Throws {@link IllegalArgumentException} when the batch is empty or too large.
+     */
+    public JobStatusBatchReport updateStatuses(List<JobStatusUpdate> updates) {
+        if (updates == null || updates.isEmpty()) {
+            throw new IllegalArgumentException("At least one status update is required");
+        }
+        if (updates.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " status updates per batch");
+        }
+
+        JobStatusUpdateResult[] results = new JobStatusUpdateResult[updates.size()];
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+        // Bulk op index → request index, and the ids actually sent
+        List<Integer> sent = new ArrayList<>();
+        Map<String, Integer> sentIds = new HashMap<>();
+
+        for (int i = 0; i < updates.size(); i++) {
+            JobStatusUpdate item = updates.get(i);
+            String id = item == null ? null : item.getId();
+            String invalid = validate(item, sentIds);
+            if (invalid != null) {
+                results[i] = new JobStatusUpdateResult(id, JobStatusUpdateResult.INVALID, invalid);
+                continue;
+            }
+            bulkOps.updateOne(new Query(Criteria.where("_id").is(id)), toUpdate(item));
+            sentIds.put(id, i);
+            sent.add(i);
+        }
+
+        if (!sent.isEmpty()) {
+            BulkWriteResult writeResult;
+            Set<Integer> rejected = new HashSet<>();
+            try {
+                writeResult = bulkOps.execute();
+            } catch (BulkOperationException e) {
+                writeResult = e.getResult();
+                for (BulkWriteError error : e.getErrors()) {
+                    int index = sent.get(error.getIndex());
+                    rejected.add(index);
+                    results[index] = new JobStatusUpdateResult(updates.get(index).getId(),
+                            JobStatusUpdateResult.FAILED, error.getMessage());
+                    logger.error("❌ Status update failed for job {}: {}", updates.get(index).getId(), error.getMessage());
+                }
+            }
+
+            Set<String> missing = writeResult.getMatchedCount() < sent.size() - rejected.size()
+                    ? missingIds(sentIds.keySet())
+                    : Set.of();
+            for (int index : sent) {
+                if (rejected.contains(index)) continue;
+                String id = updates.get(index).getId();
+                results[index] = missing.contains(id)
+                        ? new JobStatusUpdateResult(id, JobStatusUpdateResult.NOT_FOUND, "Job not found")
+                        : new JobStatusUpdateResult(id, JobStatusUpdateResult.UPDATED, null);
+            }
+            jobReadCache.evictJobs(sentIds.keySet());
+        }
+
+        JobStatusBatchReport report = new JobStatusBatchReport(List.of(results));
+        logger.info("📦 Batch status update: {} updated, {} not found, {} failed",
+                report.getUpdated(), report.getNotFound(), report.getFailed());
+        return report;
+    }
+
+    private String validate(JobStatusUpdate item, Map<String, Integer> sentIds) {
+        if (item == null || item.getId() == null || item.getId().isBlank()) return "id is required";
+        if (item.getStatus() == null || item.getStatus().isBlank()) return "status is required";
+        if (sentIds.containsKey(item.getId())) {
+            // In an unordered bulk write the order of two updates to one job is undefined
+            return "Duplicate id in batch (item " + sentIds.get(item.getId()) + ")";
+        }
+        return null;
+    }
+
+    private Update toUpdate(JobStatusUpdate item) {
+        // The worker is done with the job; drop its dispatch lease
+        Update update = new Update()
+                .set("status", item.getStatus())
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt");
+        if (item.getAppliedAt() != null && !item.getAppliedAt().isEmpty()) {
+            update.set("appliedAt", item.getAppliedAt());
+        }
+        return update;
+    }
+
+    private Set<String> missingIds(Set<String> ids) {
+        Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        Set<String> missing = new HashSet<>(ids);
+        for (Job job : mongoTemplate.find(query, Job.class)) {
+            missing.remove(job.getId());
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.example.demo.model.ClassificationRuleSet;
+import com.example.demo.model.KeywordRule;
+
+/**
+ * 🧭 Single-pass keyword analysis of a job's title and skills.
+ *
+ * Every keyword of the active {@link ClassificationRuleSet} is compiled into one
+ * {@link KeywordMatcher}. A job is scanned once over {@code title + " " + skills}; hits
+ * that end inside the title feed the title-only rules (skills, job type, seniority), all
+ * hits feed the category rules. Compiled rules are immutable and published through a
+ * volatile reference, so a new rule set is swapped in without blocking callers and each
+ * match sees exactly one version.
+ */
+@Service
+public class JobTextMatcher {
+
+    private volatile CompiledRules active = compile(ClassificationRuleSet.defaults());
+
+    /**
+     * 🟢 Scans title and skills once with the active rules and resolves every keyword-driven field.
+     */
+    public JobTextMatch match(String title, String skills) {
+        return active.match(title, skills);
+    }
+
+    /**
+     * The active rules; hold on to the result to classify many jobs with one version.
+     */
+    public CompiledRules current() {
+        return active;
+    }
+
+    /**
+     * 🔄 Atomically replaces the active rules.
+     */
+    public void activate(CompiledRules rules) {
+        this.active = rules;
+    }
+
+    /**
+     * Validates and compiles a rule set, throwing {@link IllegalArgumentException} when it is unusable.
+     */
+    public static CompiledRules compile(ClassificationRuleSet ruleSet) {
+        return new CompiledRules(ruleSet);
+    }
+
+    /**
+     * Immutable compiled form of one rule set version.
+     */
+    public static final class CompiledRules {
+
+        private final ClassificationRuleSet ruleSet;
+        private final KeywordMatcher matcher;
+
+        private final List<String> categoryLabels;
+        private final List<String> jobTypeLabels;
+        private final List<String> seniorityLabels;
+        private final List<String> skills;
+
+        // Hit slots: categories, then job types, then seniority levels, then one per skill
+        private final int jobTypeOffset;
+        private final int seniorityOffset;
+        private final int skillOffset;
+        private final int slotCount;
+
+        private CompiledRules(ClassificationRuleSet ruleSet) {
+            this.ruleSet = ruleSet;
+            requireLabel(ruleSet.getDefaultCategory(), "defaultCategory");
+            requireLabel(ruleSet.getDefaultJobType(), "defaultJobType");
+            requireLabel(ruleSet.getDefaultSeniorityLevel(), "defaultSeniorityLevel");
+
+            KeywordMatcher.Builder builder = KeywordMatcher.builder();
+            this.categoryLabels = new ArrayList<>();
+            int slot = addRules(builder, ruleSet.getCategories(), categoryLabels, 0);
+            this.jobTypeOffset = slot;
+            this.jobTypeLabels = new ArrayList<>();
+            slot = addRules(builder, ruleSet.getJobTypes(), jobTypeLabels, slot);
+            this.seniorityOffset = slot;
+            this.seniorityLabels = new ArrayList<>();
+            slot = addRules(builder, ruleSet.getSeniorityLevels(), seniorityLabels, slot);
+            this.skillOffset = slot;
+            this.skills = new ArrayList<>();
+            for (String skill : nullToEmpty(ruleSet.getSkills())) {
+                String keyword = normalizeKeyword(skill);
+                if (keyword == null) continue;
+                builder.add(keyword, slot++);
+                skills.add(keyword);
+            }
+            this.slotCount = slot;
+            this.matcher = builder.build();
+        }
+
+        public JobTextMatch match(String title, String skillText) {
+            boolean[] titleHits = new boolean[slotCount];
+            int state = matcher.scan(KeywordMatcher.ROOT, title, titleHits);
+
+            boolean[] allHits = titleHits.clone();
+            state = matcher.scan(state, " ", allHits);
+            matcher.scan(state, skillText, allHits);
+
+            // Same iteration order as the original Collectors.toSet() over the skill list
+            Set<String> titleSkills = new HashSet<>();
+            for (int i = 0; i < skills.size(); i++) {
+                if (titleHits[skillOffset + i]) titleSkills.add(skills.get(i));
+            }
+
+            return new JobTextMatch(
+                    firstMatch(categoryLabels, allHits, 0, ruleSet.getDefaultCategory()),
+                    firstMatch(jobTypeLabels, titleHits, jobTypeOffset, ruleSet.getDefaultJobType()),
+                    firstMatch(seniorityLabels, titleHits, seniorityOffset, ruleSet.getDefaultSeniorityLevel()),
+                    titleSkills
+            );
+        }
+
+        public ClassificationRuleSet getRuleSet() {
+            return ruleSet;
+        }
+
+        public long getVersion() {
+            return ruleSet.getVersion();
+        }
+
+        private static int addRules(KeywordMatcher.Builder builder, List<KeywordRule> rules, List<String> labels, int slot) {
+            for (KeywordRule rule : nullToEmpty(rules)) {
+                requireLabel(rule.getLabel(), "rule label");
+                for (String keyword : nullToEmpty(rule.getKeywords())) {
+                    String normalized = normalizeKeyword(keyword);
+                    if (normalized != null) builder.add(normalized, slot);
+                }
+                labels.add(rule.getLabel());
+                slot++;
+            }
+            return slot;
+        }
+
+        private static String firstMatch(List<String> labels, boolean[] hits, int offset, String fallback) {
+            for (int i = 0; i < labels.size(); i++) {
+                if (hits[offset + i]) return labels.get(i);
+            }
+            return fallback;
+        }
+
+        private static String normalizeKeyword(String keyword) {
+            if (keyword == null || keyword.isBlank()) return null;
+            return keyword.trim().toLowerCase(Locale.ROOT);
+        }
+
+        private static void requireLabel(String label, String field) {
+            if (label == null || label.isBlank()) {
+                throw new IllegalArgumentException("Rule set is missing " + field);
+            }
+        }
+
+        private static <T> List<T> nullToEmpty(List<T> values) {
+            return values == null ? List.of() : values;
+        }
+    }
+
+    /**
+     * Keyword-derived fields for one job.
+     */
+    public static final class JobTextMatch {
+
+        private final String category;
+        private final String jobType;
+        private final String seniorityLevel;
+        private final Set<String> titleSkills;
+
+        JobTextMatch(String category, String jobType, String seniorityLevel, Set<String> titleSkills) {
+            this.category = category;
+            this.jobType = jobType;
+            this.seniorityLevel = seniorityLevel;
+            this.titleSkills = titleSkills;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getJobType() {
+            return jobType;
+        }
+
+        public String getSeniorityLevel() {
+            return seniorityLevel;
+        }
+
+        /** Skills found in the title, used when the scraper supplied none. */
+        public Set<String> getTitleSkills() {
+            return titleSkills;
+        }
+    }
+}
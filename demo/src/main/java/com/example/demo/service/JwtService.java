@@ -1,78 +1,138 @@
 package com.example.demo.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * 🔑 Issues and verifies JWTs.
+ *
+ * The signing key and parser are built once. A token is parsed and its signature checked
+ * once; the verified claims are then cached until the token expires, so repeat requests
+ * with the same token skip parsing and HMAC entirely. Hit/miss counts are published as
+ * {@code cache.*} metrics ({@code cache=jwtClaims}).
+ */
 @Service
 public class JwtService {
-    
+
     @Value("${jwt.secret:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}")
     private String secret;
-    
+
     @Value("${jwt.expiration:86400000}")
     private Long expiration; // 24 hours in milliseconds
-    
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+
+    @Value("${jwt.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${jwt.cache.max-entries:10000}")
+    private long cacheMaxEntries;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verified;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .expireAfter(Expiry.creating((String token, Claims claims) -> untilExpiry(claims)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwtClaims");
     }
-    
+
+    /**
+     * 🟢 Claims of a valid, unexpired token; parses and verifies it only if it is not cached.
+     * Throws a {@link RuntimeException} ("Invalid JWT token") otherwise.
+     */
+    public Claims verify(String token) {
+        Claims claims = cacheEnabled ? verified.getIfPresent(token) : null;
+        if (claims != null && !isExpired(claims)) return claims;
+
+        claims = extractAllClaims(token);
+        if (cacheEnabled && !isExpired(claims)) verified.put(token, claims);
+        return claims;
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
-    
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
-    
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verify(token);
         return claimsResolver.apply(claims);
     }
-    
+
    private Claims extractAllClaims(String token) {
     try {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     } catch (JwtException e) {
         throw new RuntimeException("Invalid JWT token", e);
     }
 }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
-    
+
+    // Cache a token's claims no longer than the token itself is valid
+    private Duration untilExpiry(Claims claims) {
+        if (claims.getExpiration() == null) return Duration.ofMillis(expiration);
+        return Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()));
+    }
+
     public String generateToken(String email) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, email);
     }
-    
+
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-    
+
     public Boolean validateToken(String token, String email) {
-        final String extractedEmail = extractEmail(token);
-        return (extractedEmail.equals(email) && !isTokenExpired(token));
+        final Claims claims = verify(token);
+        return (claims.getSubject().equals(email) && !isExpired(claims));
     }
-}
\ No newline at end of file
+
+    /**
+     * ✅ Whether already-verified {@code claims} belong to {@code email} and are still unexpired.
+     */
+    public boolean isValidFor(Claims claims, String email) {
+        return claims.getSubject() != null && claims.getSubject().equals(email) && !isExpired(claims);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.demo.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiled multi-keyword matcher (Aho-Corasick automaton).
+ *
+ * Finds every occurrence of every keyword in one left-to-right pass, with the same
+ * substring semantics as {@code text.toLowerCase().contains(keyword)}. Keywords must be
+ * lowercase ASCII; text is case-folded per character while scanning, so callers never
+ * build lowercase copies. Instances are immutable and safe to share between threads.
+ */
+final class KeywordMatcher {
+
+    static final int ROOT = 0;
+
+    private static final int ALPHABET = 128;
+    private static final int[] NO_IDS = new int[0];
+
+    // The only char String.toLowerCase expands: "İ" becomes "i" + U+0307 (combining dot above)
+    private static final char CAPITAL_I_WITH_DOT = '\u0130';
+
+    // Dense DFA: next state for (state, ASCII char), failure links already folded in
+    private final int[] transitions;
+
+    // Keyword ids ending at each state, including those inherited through failure links
+    private final int[][] outputs;
+
+    private KeywordMatcher(int[] transitions, int[][] outputs) {
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Feeds {@code text} to the automaton from {@code state}, setting {@code hits[id]} for every
+     * keyword that ends inside it, and returns the state reached so scanning can continue.
+     */
+    int scan(int state, CharSequence text, boolean[] hits) {
+        if (text == null) return state;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == CAPITAL_I_WITH_DOT) {
+                // A keyword may end on the "i" but never runs on through the combining dot
+                mark(transitions[state * ALPHABET + 'i'], hits);
+                state = ROOT;
+                continue;
+            }
+            state = step(state, c);
+            mark(state, hits);
+        }
+        return state;
+    }
+
+    private void mark(int state, boolean[] hits) {
+        for (int id : outputs[state]) {
+            hits[id] = true;
+        }
+    }
+
+    int step(int state, char c) {
+        if (c >= ALPHABET) {
+            // Non-ASCII never appears in keywords unless it lowercases to ASCII (e.g. the Kelvin sign)
+            c = Character.toLowerCase(c);
+            if (c >= ALPHABET) return ROOT;
+        } else if (c >= 'A' && c <= 'Z') {
+            c += 'a' - 'A';
+        }
+        return transitions[state * ALPHABET + c];
+    }
+
+    static final class Builder {
+
+        private final List<int[]> children = new ArrayList<>();
+        private final List<int[]> ids = new ArrayList<>();
+
+        private Builder() {
+            newState();
+        }
+
+        /**
+         * Registers {@code keyword} under {@code id}; one keyword may carry several ids.
+         */
+        Builder add(String keyword, int id) {
+            if (keyword == null || keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keyword must not be empty");
+            }
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c >= ALPHABET || Character.isUpperCase(c)) {
+                    throw new IllegalArgumentException("Keyword must be lowercase ASCII: " + keyword);
+                }
+                int next = children.get(state)[c];
+                if (next == 0) {
+                    next = newState();
+                    children.get(state)[c] = next;
+                }
+                state = next;
+            }
+            ids.set(state, append(ids.get(state), id));
+            return this;
+        }
+
+        KeywordMatcher build() {
+            int stateCount = children.size();
+            int[] transitions = new int[stateCount * ALPHABET];
+            int[] failure = new int[stateCount];
+            int[][] outputs = new int[stateCount][];
+            outputs[ROOT] = ids.get(ROOT);
+
+            // Breadth-first so every failure target is complete before it is used
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = children.get(ROOT)[c];
+                transitions[c] = child;
+                if (child != 0) {
+                    failure[child] = ROOT;
+                    queue.add(child);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                outputs[state] = concat(ids.get(state), outputs[failure[state]]);
+                for (int c = 0; c < ALPHABET; c++) {
+                    int child = children.get(state)[c];
+                    int fallback = transitions[failure[state] * ALPHABET + c];
+                    if (child == 0) {
+                        transitions[state * ALPHABET + c] = fallback;
+                    } else {
+                        transitions[state * ALPHABET + c] = child;
+                        failure[child] = fallback;
+                        queue.add(child);
+                    }
+                }
+            }
+            return new KeywordMatcher(transitions, outputs);
+        }
+
+        private int newState() {
+            children.add(new int[ALPHABET]);
+            ids.add(NO_IDS);
+            return children.size() - 1;
+        }
+
+        private static int[] append(int[] values, int value) {
+            for (int existing : values) {
+                if (existing == value) return values;
+            }
+            int[] result = Arrays.copyOf(values, values.length + 1);
+            result[values.length] = value;
+            return result;
+        }
+
+        private static int[] concat(int[] own, int[] inherited) {
+            if (inherited.length == 0) return own;
+            if (own.length == 0) return inherited;
+            int[] result = own;
+            for (int id : inherited) {
+                result = append(result, id);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.demo.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 🔐 BCrypt hashing and verification on a dedicated, bounded pool.
+ *
+ * Hashing is deliberately slow, so it runs on its own threads (one per core by default)
+ * behind a bounded queue instead of on servlet threads: a signup or login burst queues here,
+ * and once the queue is full new requests are rejected right away rather than starving the
+ * job APIs. Results complete on virtual threads, so follow-up work never holds a hashing
+ * thread. The BCrypt cost is picked at startup as the highest one that stays within the
+ * target latency on this machine; hashes with a lower cost are upgraded on login.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jobpilot.auth.hash.threads:0}")
+    private int threads;
+
+    @Value("${jobpilot.auth.hash.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${jobpilot.auth.hash.strength:0}")
+    private int fixedStrength;
+
+    @Value("${jobpilot.auth.hash.target-ms:250}")
+    private long targetMs;
+
+    @Value("${jobpilot.auth.hash.min-strength:10}")
+    private int minStrength;
+
+    @Value("${jobpilot.auth.hash.max-strength:14}")
+    private int maxStrength;
+
+    private BCryptPasswordEncoder encoder;
+    private ThreadPoolExecutor hashPool;
+    private final ExecutorService callbacks = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("password-hash-callback-", 0).factory());
+
+    @PostConstruct
+    void init() {
+        int strength = fixedStrength > 0 ? fixedStrength : tuneStrength();
+        encoder = new BCryptPasswordEncoder(strength);
+
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        hashPool = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(hashPool, "passwordHashing", Tags.empty()).bindTo(meterRegistry);
+        logger.info("🔐 Password hashing: BCrypt cost {}, {} threads, queue {}", strength, size, queueCapacity);
+    }
+
+    /**
+     * 🟢 Hashes {@code rawPassword}; fails with {@link RejectedExecutionException} when the pool is saturated.
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * 🟢 Checks {@code rawPassword} against a stored hash; fails with {@link RejectedExecutionException} when saturated.
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Whether a stored hash uses a lower cost than the current one.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * The tuned encoder, for Spring Security components that hash synchronously.
+     */
+    public PasswordEncoder getEncoder() {
+        return encoder;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, hashPool).thenApplyAsync(Function.identity(), callbacks);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Too many sign-in requests right now, please retry shortly"));
+        }
+    }
+
+    // BCrypt time doubles with each cost step: time the minimum cost, then step up while the next one fits the target
+    private int tuneStrength() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double ms = best / 1_000_000.0;
+        int strength = minStrength;
+        while (strength < maxStrength && ms * 2 <= targetMs) {
+            strength++;
+            ms *= 2;
+        }
+        logger.info("⏱️ BCrypt cost {} chosen for a {} ms target (~{} ms per hash)", strength, targetMs, Math.round(ms));
+        return strength;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+        callbacks.shutdownNow();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.config.ScrapeCampaignProperties;
+import com.example.demo.dto.CampaignReport;
+import com.example.demo.dto.IngestionResult;
+import com.example.demo.dto.ScrapeQuery;
+import com.example.demo.dto.ScrapeQueryResult;
+
+/**
+ * 🚀 Runs many scrape queries in parallel and feeds each result into the ingestion pipeline.
+ *
+ * Every query runs on its own virtual thread; a semaphore caps how many are in flight, and
+ * JobService spaces out calls to the scraper with the shared per-host rate limiter.
+ */
+@Service
+public class ScrapeCampaignService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScrapeCampaignService.class);
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ScrapeCampaignProperties campaignProperties;
+
+    /**
+     * 🟢 Runs the queries configured under {@code jobpilot.campaign.*}.
+     */
+    public CampaignReport runConfiguredCampaign() {
+        return runCampaign(campaignProperties.resolveQueries());
+    }
+
+    /**
+     * 🟢 Fans the queries out with bounded concurrency and waits for all of them.
+     */
+    public CampaignReport runCampaign(List<ScrapeQuery> queries) {
+        long startedAt = System.currentTimeMillis();
+        Semaphore permits = new Semaphore(Math.max(1, campaignProperties.getConcurrency()));
+
+        logger.info("🚀 Starting scrape campaign with {} queries (concurrency={}, rate={}/s)",
+                queries.size(), campaignProperties.getConcurrency(), campaignProperties.getHostRatePerSecond());
+
+        List<ScrapeQueryResult> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ScrapeQueryResult>> futures = new ArrayList<>();
+            for (ScrapeQuery query : queries) {
+                futures.add(executor.submit(() -> runQuery(query, permits)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (Exception e) {
+                    ScrapeQueryResult failed = new ScrapeQueryResult(queries.get(i));
+                    failed.setError(e.getMessage());
+                    results.add(failed);
+                }
+            }
+        }
+
+        CampaignReport report = new CampaignReport(System.currentTimeMillis() - startedAt, results);
+        logger.info("🏁 Campaign finished in {} ms: queries={}, inserted={}, duplicates={}, failed={}, failedQueries={}",
+                report.getWallTimeMs(), report.getQueries(), report.getInserted(),
+                report.getDuplicates(), report.getFailed(), report.getFailedQueries());
+        return report;
+    }
+
+    private ScrapeQueryResult runQuery(ScrapeQuery query, Semaphore permits) throws InterruptedException {
+        ScrapeQueryResult result = new ScrapeQueryResult(query);
+        permits.acquire();
+        try {
+            long startedAt = System.currentTimeMillis();
+            try {
+                // Counts only: saved jobs are not kept so a large campaign stays flat in memory
+                IngestionResult ingestion = jobService.scrapeAndIngest(query.getRole(), query.getLocation(),
+                        query.getExperienceFilter(), query.getPosted(), query.getPages(), false);
+                result.setFetched(ingestion.getInserted() + ingestion.getDuplicates() + ingestion.getFailed());
+                result.setInserted(ingestion.getInserted());
+                result.setDuplicates(ingestion.getDuplicates());
+                result.setFailed(ingestion.getFailed());
+            } catch (Exception e) {
+                result.setError(e.getMessage());
+                logger.error("❌ Campaign query failed [{}]: {}", query, e.getMessage());
+            }
+            result.setLatencyMs(System.currentTimeMillis() - startedAt);
+            logger.info("⏱️ [{}] fetched={} inserted={} in {} ms", query, result.getFetched(),
+                    result.getInserted(), result.getLatencyMs());
+            return result;
+        } finally {
+            permits.release();
+        }
+    }
+}
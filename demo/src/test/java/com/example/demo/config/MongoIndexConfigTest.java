@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MongoIndexConfigTest {
+
+    @Test
+    void healthFollowsTheJobHashIndexBuild() {
+        MongoIndexConfig mongoIndexConfig = new MongoIndexConfig();
+        JobHashIndexHealthIndicator indicator = new JobHashIndexHealthIndicator();
+        ReflectionTestUtils.setField(indicator, "mongoIndexConfig", mongoIndexConfig);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+
+        ReflectionTestUtils.setField(mongoIndexConfig, "jobHashIndexError", "E11000 duplicate key error");
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(indicator.health().getDetails()).containsEntry("error", "E11000 duplicate key error");
+
+        ReflectionTestUtils.setField(mongoIndexConfig, "jobHashIndexError", null);
+        ReflectionTestUtils.setField(mongoIndexConfig, "jobHashIndexReady", true);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void healthFollowsTheEmailIndexBuild() {
+        MongoIndexConfig mongoIndexConfig = new MongoIndexConfig();
+        EmailIndexHealthIndicator indicator = new EmailIndexHealthIndicator();
+        ReflectionTestUtils.setField(indicator, "mongoIndexConfig", mongoIndexConfig);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+
+        ReflectionTestUtils.setField(mongoIndexConfig, "emailIndexError", "E11000 duplicate key error");
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(mongoIndexConfig.isEmailIndexReady()).isFalse();
+
+        ReflectionTestUtils.setField(mongoIndexConfig, "emailIndexError", null);
+        ReflectionTestUtils.setField(mongoIndexConfig, "emailIndexReady", true);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+}
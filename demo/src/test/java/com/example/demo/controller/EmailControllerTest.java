@@ -0,0 +1,163 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.config.OpenAIConfig;
+import com.example.demo.dto.EmailRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Drafting an email against a local stub of the OpenAI API ({@code openai.api.base-url}).
+ */
+@SpringBootTest(properties = {
+        "openai.api.key=test-key",
+        "openai.response-timeout-ms=500"
+})
+class EmailControllerTest {
+
+    private static final String COMPLETION = "{\"choices\":[{\"message\":{\"content\":\"Hi!\"}}]}";
+
+    private static final HttpServer stub = startStub();
+
+    // What the stub does with the next request, and what it received
+    private static volatile String mode;
+    private static volatile String receivedPath;
+    private static volatile String receivedAuthorization;
+    private static volatile String receivedBody;
+
+    @Autowired
+    private EmailController emailController;
+
+    @Autowired
+    private OpenAIConfig openAIConfig;
+
+    @DynamicPropertySource
+    static void openAiStub(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @BeforeEach
+    void resetStub() {
+        mode = "ok";
+        receivedPath = null;
+        receivedAuthorization = null;
+        receivedBody = null;
+    }
+
+    @Test
+    void sendsEscapedJsonAndReturnsTheCompletion() throws Exception {
+        ResponseEntity<String> response = generate(new EmailRequest("Ann \"AJ\"\nLee", "Acme \\ Co", "SDE"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(COMPLETION);
+        assertThat(receivedPath).isEqualTo("/v1/chat/completions");
+        assertThat(receivedAuthorization).isEqualTo("Bearer test-key");
+
+        // Quotes, backslashes and newlines arrive escaped, so the body is valid JSON
+        assertThat(receivedBody).doesNotContain("\n").contains("\\\"AJ\\\"\\nLee").contains("Acme \\\\ Co");
+        JsonNode body = new ObjectMapper().readTree(receivedBody);
+        assertThat(body.path("model").asText()).isEqualTo(openAIConfig.getModel());
+        assertThat(body.path("messages").get(0).path("content").asText())
+                .isEqualTo("Write a professional cold email to Ann \"AJ\"\nLee at Acme \\ Co for the SDE position.");
+    }
+
+    @Test
+    void returns503WithoutAnApiKey() {
+        ReflectionTestUtils.setField(openAIConfig, "apiKey", "");
+        try {
+            ResponseEntity<String> response = generate(new EmailRequest("Ann", "Acme", "SDE"));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getBody()).contains("OpenAI API key is not configured");
+            assertThat(receivedBody).isNull();
+        } finally {
+            ReflectionTestUtils.setField(openAIConfig, "apiKey", "test-key");
+        }
+    }
+
+    @Test
+    void returns502WhenOpenAiFails() {
+        mode = "error";
+        ResponseEntity<String> response = generate(new EmailRequest("Ann", "Acme", "SDE"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+        assertThat(response.getBody()).startsWith("OpenAI request failed").contains("500");
+    }
+
+    @Test
+    void returns502WhenOpenAiTimesOut() {
+        mode = "slow";
+        ResponseEntity<String> response = generate(new EmailRequest("Ann", "Acme", "SDE"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+        assertThat(response.getBody()).startsWith("OpenAI request failed").contains("Timeout");
+    }
+
+    private ResponseEntity<String> generate(EmailRequest request) {
+        return emailController.generateEmail(request).block(Duration.ofSeconds(10));
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/v1/chat/completions", EmailControllerTest::handle);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the OpenAI stub", e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        receivedPath = exchange.getRequestURI().getPath();
+        receivedAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+        receivedBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        int status = 200;
+        byte[] body = COMPLETION.getBytes(StandardCharsets.UTF_8);
+        if ("error".equals(mode)) {
+            status = 500;
+            body = "{\"error\":{\"message\":\"upstream failure\"}}".getBytes(StandardCharsets.UTF_8);
+        } else if ("slow".equals(mode)) {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException ignored) {
+            // The client gave up first (timeout case)
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.example.demo.config.MongoIndexConfig;
+import com.example.demo.dto.AuthRequest;
+import com.example.demo.dto.AuthResponse;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    private static final String EMAIL = "dev@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private MongoIndexConfig mongoIndexConfig;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private final AuthRequest request = new AuthRequest();
+
+    @BeforeEach
+    void setUp() {
+        request.setEmail(EMAIL);
+        request.setPassword("pw123456");
+        when(passwordHashingService.encode("pw123456")).thenReturn(CompletableFuture.completedFuture("hash"));
+    }
+
+    @Test
+    void checksForTheEmailUntilTheIndexIsConfirmed() {
+        when(mongoIndexConfig.isEmailIndexReady()).thenReturn(false);
+        when(userRepository.existsByEmail(EMAIL)).thenReturn(true);
+
+        assertThatThrownBy(() -> authService.signup(request).join())
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining("Email already registered");
+        verify(userRepository, never()).insert(any(User.class));
+    }
+
+    @Test
+    void insertsDirectlyOnceTheIndexIsConfirmed() {
+        when(mongoIndexConfig.isEmailIndexReady()).thenReturn(true);
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jwtService.generateToken(EMAIL)).thenReturn("token");
+
+        AuthResponse response = authService.signup(request).join();
+
+        assertThat(response.getToken()).isEqualTo("token");
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void duplicateKeyFromTheIndexMeansAlreadyRegistered() {
+        when(mongoIndexConfig.isEmailIndexReady()).thenReturn(true);
+        when(userRepository.insert(any(User.class))).thenThrow(new DuplicateKeyException("E11000"));
+
+        assertThatThrownBy(() -> authService.signup(request).join())
+                .hasMessageContaining("Email already registered");
+    }
+}
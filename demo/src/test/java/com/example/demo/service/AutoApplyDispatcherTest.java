@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.demo.config.AutoApplyDispatchProperties;
+import com.example.demo.model.Job;
+
+@ExtendWith(MockitoExtension.class)
+class AutoApplyDispatcherTest {
+
+    private static final String WORKER = "http://worker-1:5000";
+    private static final String OWNER = "run-1:" + WORKER;
+
+    @Spy
+    private AutoApplyDispatchProperties dispatchProperties = new AutoApplyDispatchProperties();
+
+    @Mock
+    private JobLeaseService jobLeaseService;
+
+    @Mock
+    private RestTemplate autoApplyRestTemplate;
+
+    @InjectMocks
+    private AutoApplyDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatchProperties.setWorkers(List.of(WORKER));
+        Job job = new Job();
+        job.setId("job-1");
+        job.setTitle("Backend Engineer");
+        when(jobLeaseService.lease(eq(OWNER), anyInt(), any(Duration.class), anyCollection())).thenReturn(List.of(job));
+    }
+
+    @Test
+    void refusedConnectionReleasesLeases() {
+        failBatchWith(new ResourceAccessException("I/O error", new ConnectException("Connection refused")));
+
+        assertThatThrownBy(() -> dispatcher.dispatch("run-1", 5)).isInstanceOf(IllegalStateException.class);
+        verify(jobLeaseService).release(OWNER);
+    }
+
+    @Test
+    void connectTimeoutReleasesLeases() {
+        failBatchWith(new ResourceAccessException("I/O error", new HttpConnectTimeoutException("HTTP connect timed out")));
+
+        assertThatThrownBy(() -> dispatcher.dispatch("run-1", 5)).isInstanceOf(IllegalStateException.class);
+        verify(jobLeaseService).release(OWNER);
+    }
+
+    @Test
+    void errorResponseReleasesLeases() {
+        failBatchWith(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        assertThatThrownBy(() -> dispatcher.dispatch("run-1", 5)).isInstanceOf(IllegalStateException.class);
+        verify(jobLeaseService).release(OWNER);
+    }
+
+    @Test
+    void readTimeoutKeepsLeases() {
+        // The batch was sent; the worker may still be applying
+        failBatchWith(new ResourceAccessException("I/O error", new HttpTimeoutException("request timed out")));
+
+        assertThatThrownBy(() -> dispatcher.dispatch("run-1", 5)).isInstanceOf(IllegalStateException.class);
+        verify(jobLeaseService, never()).release(anyString());
+    }
+
+    private void failBatchWith(RuntimeException failure) {
+        when(autoApplyRestTemplate.postForEntity(anyString(), any(), eq(Map.class))).thenThrow(failure);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AutoApplyProgressBroadcasterTest {
+
+    private final AutoApplyProgressBroadcaster broadcaster = new AutoApplyProgressBroadcaster();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(broadcaster, "bufferSize", 16);
+        ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 1000);
+        ReflectionTestUtils.setField(broadcaster, "timeoutMs", 60_000L);
+    }
+
+    @Test
+    void everySenderIsPublishedAndStopsWhenStreamsClose() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            broadcaster.subscribe(Map.of("status", "running"));
+        }
+
+        // The sender is visible as soon as subscribe returns, so close() can always interrupt it
+        List<Thread> senders = new ArrayList<>();
+        for (Object subscriber : (Set<?>) ReflectionTestUtils.getField(broadcaster, "subscribers")) {
+            Thread sender = (Thread) ReflectionTestUtils.getField(subscriber, "sender");
+            assertThat(sender).isNotNull();
+            senders.add(sender);
+        }
+        assertThat(senders).hasSize(200);
+
+        broadcaster.completeAll();
+
+        for (Thread sender : senders) {
+            assertThat(sender.join(Duration.ofSeconds(5))).isTrue();
+        }
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void concurrentSubscribesNeverExceedTheCapAndClosedStreamsFreeTheirSlots() throws InterruptedException {
+        ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 10);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        broadcaster.subscribe(Map.of("status", "running"));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(accepted).hasValue(10);
+        assertThat(rejected).hasValue(190);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(10);
+
+        List<Object> open = new ArrayList<>((Set<?>) ReflectionTestUtils.getField(broadcaster, "subscribers"));
+        broadcaster.completeAll();
+        // Closed again by the emitter's own completion callback: each slot is still released only once
+        open.forEach(subscriber -> ReflectionTestUtils.invokeMethod(subscriber, "close"));
+        for (int i = 0; i < 10; i++) {
+            broadcaster.subscribe(Map.of("status", "running"));
+        }
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(10);
+        assertThat(ReflectionTestUtils.getField(broadcaster, "slots")).hasToString("10");
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.example.demo.model.AutoApplyRun;
+import com.example.demo.repository.AutoApplyRunRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AutoApplyRunServiceTest {
+
+    @Mock
+    private AutoApplyRunRepository runRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private AutoApplyProgressBroadcaster progressBroadcaster;
+
+    @Spy
+    private AutoApplyProgressTracker progressTracker = new AutoApplyProgressTracker();
+
+    @Mock
+    private AutoApplyDispatcher autoApplyDispatcher;
+
+    @InjectMocks
+    private AutoApplyRunService runService;
+
+    private final CountDownLatch dispatching = new CountDownLatch(1);
+    private final CountDownLatch releaseRun = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseRun.countDown();
+        runService.shutdown();
+    }
+
+    @Test
+    void statusAndProgressDuringStartDoNotFail() throws Exception {
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        // Hold start() between publishing the run and recording it
+        when(runRepository.insert(any(AutoApplyRun.class))).thenAnswer(invocation -> {
+            inserting.countDown();
+            checked.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        when(autoApplyDispatcher.isEnabled()).thenReturn(true);
+        when(autoApplyDispatcher.dispatch(anyString(), anyInt())).thenAnswer(invocation -> {
+            dispatching.countDown();
+            releaseRun.await(5, TimeUnit.SECONDS);
+            return Map.of("processed", 0, "successful", 0);
+        });
+
+        CompletableFuture<AutoApplyRun> started = CompletableFuture.supplyAsync(() -> runService.start(5));
+        assertThat(inserting.await(5, TimeUnit.SECONDS)).isTrue();
+        try {
+            Map<String, Object> status = runService.status();
+            assertThat(status).containsEntry("isRunning", true).containsEntry("processedJobs", 0L);
+            assertThat(status.get("runId")).isNotNull();
+
+            // Not tracked yet: ignored rather than failing
+            assertThat(runService.updateProgress(Map.of("processed", 1))).isFalse();
+            assertThat(runService.updateProgress(Map.of("runId", status.get("runId"), "processed", 1))).isFalse();
+        } finally {
+            checked.countDown();
+        }
+
+        AutoApplyRun run = started.get(5, TimeUnit.SECONDS);
+        assertThat(run.getId()).isEqualTo(runService.status().get("runId"));
+        assertThat(runService.updateProgress(Map.of("runId", run.getId(), "processed", 2))).isTrue();
+        assertThat(runService.status()).containsEntry("processedJobs", 2L);
+        assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void pollingStatusWhileStartingNeverThrows() throws Exception {
+        when(runRepository.insert(any(AutoApplyRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(autoApplyDispatcher.isEnabled()).thenReturn(true);
+        when(autoApplyDispatcher.dispatch(anyString(), anyInt())).thenAnswer(invocation -> {
+            dispatching.countDown();
+            releaseRun.await(5, TimeUnit.SECONDS);
+            return Map.of();
+        });
+
+        CompletableFuture<Void> poller = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 200_000; i++) {
+                runService.status();
+                runService.updateProgress(Map.of("processed", 1));
+            }
+        });
+        runService.start(3);
+        poller.get(30, TimeUnit.SECONDS);
+        assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
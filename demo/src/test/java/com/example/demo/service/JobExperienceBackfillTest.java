@@ -0,0 +1,57 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.example.demo.model.Job;
+
+class JobExperienceBackfillTest {
+
+    private final MappingMongoConverter converter = converter();
+
+    @Test
+    void unparseableJobsAreStoredWithExplicitNulls() {
+        Job job = new Job();
+        job.setTitle("Engineer");
+        job.setExperience("Fresher");
+
+        // What ingestion writes: the backfill only matches documents without experienceMin
+        Document document = new Document();
+        converter.write(job, document);
+
+        assertThat(document).containsEntry("experienceMin", null).containsEntry("experienceMax", null);
+        assertThat(document).doesNotContainKey("company");
+    }
+
+    @Test
+    void parsedRangesAreStored() {
+        Job job = new Job();
+        job.setExperienceMin(2);
+        job.setExperienceMax(5);
+
+        Document document = new Document();
+        converter.write(job, document);
+
+        assertThat(document).containsEntry("experienceMin", 2).containsEntry("experienceMax", 5);
+    }
+
+    private static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
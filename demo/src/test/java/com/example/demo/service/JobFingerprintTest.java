@@ -0,0 +1,63 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class JobFingerprintTest {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 -_|,.()/&+#@\t\n\u0000\u001f~";
+
+    private final JobFingerprint fingerprint = new JobFingerprint();
+
+    @Test
+    void matchesLegacyHashForTypicalJobs() {
+        assertSame("Senior Java Developer", "Acme Corp", "Bengaluru, India");
+        assertSame("  SDE-1 (Backend)  ", "Flipkart", "Remote ");
+        assertSame("", "", "");
+        assertSame(null, "Acme", null);
+        assertSame(null, null, null);
+        assertSame("\tData Engineer\n", "X|Y", "\u0000");
+    }
+
+    @Test
+    void matchesLegacyHashForNonAsciiJobs() {
+        assertSame("Développeur Java", "Société Générale", "Paris");
+        assertSame("İstanbul Engineer", "ACME", "TÜRKİYE");
+        assertSame("Engineer", "Zürich Insurance", "Zürich");
+        assertSame("ソフトウェアエンジニア", "楽天", "東京");
+    }
+
+    @Test
+    void matchesLegacyHashForRandomAsciiInput() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            assertSame(randomText(random), randomText(random), randomText(random));
+        }
+    }
+
+    @Test
+    void reusesBuffersAcrossLongAndShortInput() {
+        String longTitle = "Principal Engineer ".repeat(100);
+        assertSame(longTitle, "Acme", "Remote");
+        assertSame("QA", "B", "C");
+    }
+
+    private void assertSame(String title, String company, String location) {
+        assertThat(fingerprint.hash(title, company, location))
+                .as("hash(%s, %s, %s)", title, company, location)
+                .isEqualTo(JobFingerprint.legacyHash(title, company, location));
+    }
+
+    private static String randomText(Random random) {
+        if (random.nextInt(20) == 0) return null;
+        int length = random.nextInt(60);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+}
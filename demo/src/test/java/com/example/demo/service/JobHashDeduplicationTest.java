@@ -0,0 +1,97 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.model.Job;
+import com.mongodb.client.result.DeleteResult;
+
+@ExtendWith(MockitoExtension.class)
+class JobHashDeduplicationTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private JobReadCache jobReadCache;
+
+    @InjectMocks
+    private JobHashDeduplication deduplication;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deduplication, "backupCollection", "job_duplicates");
+        ReflectionTestUtils.setField(deduplication, "batchSize", 500);
+    }
+
+    @Test
+    void onlyReportsDuplicatesByDefault() {
+        stubDuplicateGroup();
+
+        assertThat(deduplication.run()).isZero();
+
+        verify(mongoTemplate, never()).remove(any(Query.class), anyString());
+        verify(mongoTemplate, never()).save(any(), anyString());
+        verify(jobReadCache, never()).evictAll();
+    }
+
+    @Test
+    void backsUpThenDeletesAllButTheAppliedJobWhenEnabled() {
+        ReflectionTestUtils.setField(deduplication, "enabled", true);
+        stubDuplicateGroup();
+        Document old = new Document("_id", "old");
+        Document failed = new Document("_id", "failed");
+        when(mongoTemplate.getCollectionName(Job.class)).thenReturn("job");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("job"))).thenReturn(List.of(old, failed));
+        when(mongoTemplate.remove(any(Query.class), eq("job"))).thenReturn(DeleteResult.acknowledged(2));
+
+        assertThat(deduplication.run()).isEqualTo(2);
+
+        verify(mongoTemplate).save(old, "job_duplicates");
+        verify(mongoTemplate).save(failed, "job_duplicates");
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq("job"));
+        assertThat(removed.getValue().getQueryObject().toString()).contains("old", "failed").doesNotContain("applied");
+        verify(jobReadCache).evictAll();
+    }
+
+    @Test
+    void keepsTheAppliedJobThenFailedThenLeasedThenTheOldest() {
+        assertThat(JobHashDeduplication.keeper(List.of("pending", "pending"))).isEqualTo(0);
+        assertThat(JobHashDeduplication.keeper(List.of("pending", "leased", "pending"))).isEqualTo(1);
+        assertThat(JobHashDeduplication.keeper(List.of("pending", "leased", "failed"))).isEqualTo(2);
+        assertThat(JobHashDeduplication.keeper(List.of("failed", "applied"))).isEqualTo(1);
+        assertThat(JobHashDeduplication.keeper(List.of("applied", "failed", "applied"))).isEqualTo(0);
+    }
+
+    // One jobHash stored three times, oldest first
+    private void stubDuplicateGroup() {
+        Document group = new Document("_id", "h1")
+                .append("ids", List.of("old", "applied", "failed"))
+                .append("statuses", List.of("pending", "applied", "failed"))
+                .append("count", 3);
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq(Job.class), eq(Document.class)))
+                .thenReturn(Stream.of(group));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.service.JobNormalizerService.Experience;
+
+class JobNormalizerServiceTest {
+
+    private static final String EXPERIENCE_CHARS = "0123456789012345-–-  +..yrsYRS(),/aboveİ\t~";
+
+    private static final List<String> POSTED_WORDS = List.of(
+        "today", "Today", "TODAY", "day", "days", "Days", "ago", "Posted", "posted", "just", "now", "tod", "ay",
+        "30+", "1", "2", "7", "14", "0", "99999999999", "2147483647", "2147483648", "week", "month", "hour",
+        " ", " ", "-", "İ", "K", "٣"
+    );
+
+    private static final Pattern NUMBER = Pattern.compile("(\\d+)(?:\\.\\d+)*");
+
+    private final JobNormalizerService normalizer = new JobNormalizerService();
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 30, 1, 30);
+
+    @Test
+    void parsesTypicalExperience() {
+        assertExperience("2–5 Yrs", "2-5", 2, 5);
+        assertExperience("3 Yrs", "3", 3, 3);
+        assertExperience("10+ years", "10", 10, null);
+        assertExperience("1.5 - 3 yrs", "15 - 3", 1, 3);
+        assertExperience("8-4 Yrs", "8-4", 4, 8);
+        assertExperience("Fresher", "", null, null);
+        assertExperience("   ", "Not specified", null, null);
+        assertExperience(null, "Not specified", null, null);
+    }
+
+    @Test
+    void experienceMatchesLegacyParserForRandomInput() {
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            String exp = randomExperience(random);
+            Experience experience = normalizer.parseExperience(exp);
+            assertThat(experience.getText()).as("text of [%s]", exp).isEqualTo(LegacyJobParsing.normalizeExperience(exp));
+
+            Integer[] years = regexYears(exp);
+            assertThat(experience.getMinYears()).as("minYears of [%s]", exp).isEqualTo(years[0]);
+            assertThat(experience.getMaxYears()).as("maxYears of [%s]", exp).isEqualTo(years[1]);
+        }
+    }
+
+    @Test
+    void parsesTypicalPostedText() {
+        assertThat(normalizer.parsePostedAt("Today", now)).isEqualTo(now);
+        assertThat(normalizer.parsePostedAt("30+ days ago", now)).isEqualTo(now.minusDays(30));
+        assertThat(normalizer.parsePostedAt("1 day ago", now)).isEqualTo(now.minusDays(1));
+        assertThat(normalizer.parsePostedAt("Few days ago", now)).isNull();
+        assertThat(normalizer.parsePostedAt("2 weeks ago", now)).isEqualTo(now);
+        assertThat(normalizer.parsePostedAt(" ", now)).isNull();
+    }
+
+    @Test
+    void postedAtMatchesLegacyParserForRandomInput() {
+        Random random = new Random(13);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder posted = new StringBuilder();
+            int words = random.nextInt(5);
+            for (int w = 0; w < words; w++) {
+                if (w > 0 && random.nextBoolean()) posted.append(' ');
+                posted.append(POSTED_WORDS.get(random.nextInt(POSTED_WORDS.size())));
+            }
+            String text = posted.toString();
+            assertThat(normalizer.parsePostedAt(text, now)).as("[%s]", text).isEqualTo(LegacyJobParsing.parsePostedDate(text, now));
+        }
+    }
+
+    private void assertExperience(String exp, String text, Integer min, Integer max) {
+        Experience experience = normalizer.parseExperience(exp);
+        assertThat(experience.getText()).isEqualTo(text);
+        assertThat(experience.getMinYears()).isEqualTo(min);
+        assertThat(experience.getMaxYears()).isEqualTo(max);
+        assertThat(text).isEqualTo(LegacyJobParsing.normalizeExperience(exp));
+    }
+
+    private static String randomExperience(Random random) {
+        if (random.nextInt(50) == 0) return null;
+        int length = random.nextInt(16);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(EXPERIENCE_CHARS.charAt(random.nextInt(EXPERIENCE_CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    // The year range rules read with regexes: whole-number parts capped at 99, "+" after a lone first number is open-ended
+    private static Integer[] regexYears(String exp) {
+        if (exp == null || exp.isBlank()) return new Integer[] { null, null };
+        List<Integer> numbers = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        Matcher matcher = NUMBER.matcher(exp);
+        while (matcher.find()) {
+            String whole = matcher.group(1).replaceFirst("^0+(?=\\d)", "");
+            numbers.add(whole.length() > 2 ? 99 : Math.min(Integer.parseInt(whole), 99));
+            ends.add(matcher.end());
+        }
+        if (numbers.isEmpty()) return new Integer[] { null, null };
+        if (numbers.size() == 1) {
+            boolean openEnded = exp.indexOf('+', ends.get(0)) >= 0;
+            return new Integer[] { numbers.get(0), openEnded ? null : numbers.get(0) };
+        }
+        int min = numbers.get(0);
+        int max = numbers.get(1);
+        return new Integer[] { Math.min(min, max), Math.max(min, max) };
+    }
+}
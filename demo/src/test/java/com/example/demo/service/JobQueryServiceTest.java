@@ -0,0 +1,59 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.example.demo.model.Job;
+
+class JobQueryServiceTest {
+
+    @Test
+    void cursorRoundTrips() {
+        Job last = new Job();
+        last.setId(new ObjectId().toHexString());
+        last.setPostedAt(LocalDateTime.of(2025, 3, 1, 9, 30));
+
+        String cursor = JobQueryService.encodeCursor(last);
+        assertThat(JobQueryService.afterCursor(cursor, Sort.Direction.DESC).getCriteriaObject().toString())
+                .contains(last.getId());
+
+        last.setPostedAt(null);
+        assertThat(JobQueryService.afterCursor(JobQueryService.encodeCursor(last), Sort.Direction.ASC)).isNotNull();
+    }
+
+    @Test
+    void tamperedCursorIsRejectedAsInvalid() {
+        String id = new ObjectId().toHexString();
+
+        assertInvalid("not base64 !");
+        assertInvalid(encode("2025-03-01T09:30"));
+        assertInvalid(encode("2025-03-01T09:30|not-an-id"));
+        assertInvalid(encode("yesterday|" + id));
+        assertInvalid(encode("2025-13-45T99:00|" + id));
+    }
+
+    @Test
+    void locationAndCompanyMatchAnAnchoredLiteralPrefix() {
+        assertThat(JobQueryService.startingWith("  Bangalore ")).isEqualTo("^\\Qbangalore\\E");
+        assertThat("c++ (india) ltd").matches(JobQueryService.startingWith("C++ (India)") + ".*");
+        assertThat("remote, c++ (india)").doesNotMatch(JobQueryService.startingWith("C++ (India)") + ".*");
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> JobQueryService.afterCursor(cursor, Sort.Direction.DESC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
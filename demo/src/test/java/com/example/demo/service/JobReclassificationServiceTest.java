@@ -0,0 +1,105 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.dto.ReclassificationReport;
+import com.example.demo.model.Job;
+import com.mongodb.bulk.BulkWriteResult;
+
+@ExtendWith(MockitoExtension.class)
+class JobReclassificationServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private JobReadCache jobReadCache;
+
+    @Spy
+    private JobTextMatcher jobTextMatcher = new JobTextMatcher();
+
+    @InjectMocks
+    private JobReclassificationService jobReclassificationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jobReclassificationService, "batchSize", 500);
+        when(mongoTemplate.getCollectionName(Job.class)).thenReturn("job");
+    }
+
+    @Test
+    void runsInTheBackgroundAndRejectsASecondRunMeanwhile() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("job"))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Stream.of(new Document("_id", "1").append("title", "Python Developer"));
+        });
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        BulkWriteResult written = mock(BulkWriteResult.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "job")).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenReturn(written);
+        when(written.getModifiedCount()).thenReturn(1);
+
+        ReclassificationReport started = jobReclassificationService.start();
+
+        assertThat(started.getStatus()).isEqualTo(ReclassificationReport.RUNNING);
+        assertThat(jobReclassificationService.find(started.getRunId())).containsSame(started);
+        assertThatThrownBy(() -> jobReclassificationService.start()).isInstanceOf(IllegalStateException.class);
+
+        release.countDown();
+        ReclassificationReport finished = awaitFinished(started.getRunId());
+
+        assertThat(finished.getStatus()).isEqualTo(ReclassificationReport.DONE);
+        assertThat(finished.getScanned()).isEqualTo(1);
+        assertThat(finished.getUpdated()).isEqualTo(1);
+        verify(jobReadCache).evictAll();
+        assertThat(jobReclassificationService.find("unknown")).isEmpty();
+    }
+
+    @Test
+    void failedRunIsReportedAndFreesTheSlot() throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("job")))
+                .thenThrow(new IllegalStateException("cursor killed"))
+                .thenReturn(Stream.empty());
+
+        ReclassificationReport failed = awaitFinished(jobReclassificationService.start().getRunId());
+
+        assertThat(failed.getStatus()).isEqualTo(ReclassificationReport.FAILED);
+        assertThat(failed.getError()).isEqualTo("cursor killed");
+        assertThat(awaitFinished(jobReclassificationService.start().getRunId()).getStatus())
+                .isEqualTo(ReclassificationReport.DONE);
+    }
+
+    private ReclassificationReport awaitFinished(String runId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ReclassificationReport report = jobReclassificationService.find(runId).orElseThrow();
+        while (ReclassificationReport.RUNNING.equals(report.getStatus()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            report = jobReclassificationService.find(runId).orElseThrow();
+        }
+        return report;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.model.Job;
+
+@ExtendWith(MockitoExtension.class)
+class JobSearchServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private JobSearchService jobSearchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jobSearchService, "defaultLimit", 20);
+        ReflectionTestUtils.setField(jobSearchService, "maxLimit", 100);
+        ReflectionTestUtils.setField(jobSearchService, "maxExpansions", 3);
+        ReflectionTestUtils.setField(jobSearchService, "maxCandidates", 1000);
+        ReflectionTestUtils.setField(jobSearchService, "maxVocabulary", 1000);
+    }
+
+    @Test
+    void prefixExpansionsAreShortestFirst() {
+        jobSearchService.index(job("developer development devs devops", null));
+
+        assertThat(jobSearchService.expand("dev")).containsExactly("devs", "devops", "developer");
+    }
+
+    @Test
+    void typoExpansionsFollowPrefixesClosestFirst() {
+        jobSearchService.index(job("engineer engineers enginer engneeer", null));
+
+        assertThat(jobSearchService.expand("engineer")).containsExactly("engineers", "enginer", "engneeer");
+    }
+
+    @Test
+    void vocabularyIsCappedAndRebuildDropsWordsOfDeletedJobs() {
+        ReflectionTestUtils.setField(jobSearchService, "maxVocabulary", 2);
+        jobSearchService.index(job("alpha beta gamma", null));
+        assertThat(jobSearchService.expand("al")).containsExactly("alpha");
+        assertThat(jobSearchService.expand("ga")).isEmpty();
+
+        // Only "gamma" is still stored
+        when(mongoTemplate.getCollectionName(Job.class)).thenReturn("job");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("job")))
+                .thenReturn(Stream.of(new Document("title", "gamma")));
+        jobSearchService.rebuildVocabulary();
+
+        assertThat(jobSearchService.expand("al")).isEmpty();
+        assertThat(jobSearchService.expand("ga")).containsExactly("gamma");
+    }
+
+    @Test
+    void readsAtMostMaxCandidatesWithoutScoreSort() {
+        Job stale = job("Java Developer", LocalDateTime.of(2025, 1, 1, 0, 0));
+        Job fresh = job("Java Developer", LocalDateTime.of(2025, 3, 1, 0, 0));
+        Job weak = job("Sales", null);
+        weak.setSkills("java");
+        when(mongoTemplate.find(any(Query.class), eq(Job.class))).thenReturn(List.of(weak, stale, fresh));
+
+        List<Job> results = jobSearchService.search("java developer", 2);
+
+        assertThat(results).containsExactly(fresh, stale);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Job.class));
+        assertThat(query.getValue().getLimit()).isEqualTo(1000);
+        assertThat(query.getValue().getSortObject()).isEmpty();
+    }
+
+    @Test
+    void rankWeighsTitleAboveLocationAndExactAboveExpanded() {
+        Job titleExpanded = job("Javascript Engineer", null);
+        Job locationExact = job("Engineer", null);
+        locationExact.setLocation("Java, Indonesia");
+        Job titleExact = job("Java Engineer", null);
+
+        List<Job> ranked = JobSearchService.rank(List.of(locationExact, titleExpanded, titleExact),
+                Set.of("java"), Set.of("java", "javascript"), 10);
+
+        assertThat(ranked).containsExactly(titleExact, titleExpanded, locationExact);
+    }
+
+    private static Job job(String title, LocalDateTime postedAt) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setPostedAt(postedAt);
+        return job;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.demo.dto.IngestionResult;
+import com.example.demo.dto.JobResponse;
+import com.example.demo.model.Job;
+import com.example.demo.repository.JobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobIngestionService jobIngestionService;
+
+    @Mock
+    private JobDedupIndex jobDedupIndex;
+
+    @Mock
+    private JobSearchService jobSearchService;
+
+    @Mock
+    private JobReadCache jobReadCache;
+
+    @Mock
+    private RestTemplate scraperRestTemplate;
+
+    @Mock
+    private HostRateLimiter hostRateLimiter;
+
+    @InjectMocks
+    private JobService jobService;
+
+    @Test
+    void perJobIngestionCountsDuplicatesSeparately() {
+        Job fresh = job("fresh");
+        Job known = job("known");
+        Job raced = job("raced");
+        Job stored = job("known");
+        Job racedStored = job("raced");
+
+        when(jobIngestionService.prepare(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobDedupIndex.mightContain("fresh")).thenReturn(false);
+        when(jobDedupIndex.mightContain("known")).thenReturn(true);
+        when(jobDedupIndex.mightContain("raced")).thenReturn(false);
+        when(jobRepository.findByJobHash("known")).thenReturn(Optional.of(stored));
+        when(jobRepository.save(fresh)).thenReturn(fresh);
+        // Another writer inserted the same hash between the check and the save
+        when(jobRepository.save(raced)).thenThrow(new DataIntegrityViolationException("E11000"));
+        when(jobRepository.findByJobHash("raced")).thenReturn(Optional.of(racedStored));
+
+        IngestionResult result = jobService.ingestJobs(List.of(fresh, known, raced));
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getSavedJobs()).containsExactly(fresh);
+    }
+
+    @Test
+    void everyScrapeWaitsOnTheSharedScraperHostLimit() throws Exception {
+        ReflectionTestUtils.setField(jobService, "fastApiBaseUrl", "http://scraper:5000/scrape-jobs");
+        when(scraperRestTemplate.getForObject(anyString(), eq(JobResponse.class))).thenReturn(null);
+
+        jobService.scrapeJobs("java", "pune", "all", "any", 1);
+        jobService.scrapeAndIngest("python", "goa", "all", "any", 1, false);
+
+        verify(hostRateLimiter, times(2)).acquire("scraper");
+    }
+
+    private static Job job(String hash) {
+        Job job = new Job();
+        job.setTitle("Engineer " + hash);
+        job.setJobHash(hash);
+        return job;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.service.JobTextMatcher.JobTextMatch;
+
+class JobTextMatcherTest {
+
+    private static final List<String> WORDS = List.of(
+        "Senior", "Java", "Developer", "INTERN", "Internship", "react native", "React", "Node.js", "Spring Boot",
+        "ML", "AI", "Data", "Engineer", "DevOps", "AWS", "Kubernetes", "CI/CD", "QA", "Tester", "automation",
+        "Flutter", "iOS", "Android", "C++", "C#", "Next.js", "Git", "GitHub", "SQL", "NoSQL", "MongoDB",
+        "Lead", "Junior", "Fresher", "Contract", "Remote", "Full Stack", "Backend", "Frontend", "API",
+        "Manual Testing", "Deep Learning", "Pandas", "Python", "Django", "Flask", "Express", "HTML/CSS",
+        "Jav", "ava", "Reac", "Kuber", "Mach", "Tera", "Terraform", "Azure", "Jenkins", "Vue", "Angular",
+        "Ingénieur", "Développeur", "München", "İntern", "İOS", "Kubernetes", "ﬁnance", "Straße",
+        "-", "/", "|", "(", ")", ",", ".", "&", "  ", "\t", "2025"
+    );
+
+    private final JobTextMatcher matcher = new JobTextMatcher();
+
+    @Test
+    void matchesLegacyClassificationForTypicalTitles() {
+        assertSameAsLegacy("Senior Java Developer", "Spring Boot, MongoDB");
+        assertSameAsLegacy("Software Engineer Intern", null);
+        assertSameAsLegacy("React Native Developer (Remote)", "");
+        assertSameAsLegacy("Lead Data Engineer - AWS", "python, pandas");
+        assertSameAsLegacy("QA Automation Engineer", "selenium");
+        assertSameAsLegacy("Contract iOS Developer", null);
+        assertSameAsLegacy("Product Manager", null);
+        assertSameAsLegacy("", "");
+    }
+
+    @Test
+    void matchesLegacyClassificationForRandomTitles() {
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            String title = randomText(random, 1 + random.nextInt(8));
+            String skills = switch (random.nextInt(3)) {
+                case 0 -> null;
+                case 1 -> "";
+                default -> randomText(random, random.nextInt(5));
+            };
+            assertSameAsLegacy(title, skills);
+        }
+    }
+
+    private void assertSameAsLegacy(String title, String skills) {
+        JobTextMatch match = matcher.match(title, skills);
+        String input = "title=[" + title + "] skills=[" + skills + "]";
+        assertThat(match.getCategory()).as(input).isEqualTo(LegacyKeywordClassifier.category(title, skills));
+        assertThat(match.getJobType()).as(input).isEqualTo(LegacyKeywordClassifier.jobType(title));
+        assertThat(match.getSeniorityLevel()).as(input).isEqualTo(LegacyKeywordClassifier.seniorityLevel(title));
+        assertThat(String.join(", ", match.getTitleSkills())).as(input).isEqualTo(LegacyKeywordClassifier.titleSkills(title));
+    }
+
+    private static String randomText(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0 && random.nextBoolean()) sb.append(' ');
+            sb.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return sb.toString();
+    }
+}
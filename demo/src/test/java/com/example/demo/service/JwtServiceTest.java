@@ -0,0 +1,93 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Test
+    void verifiedClaimsMatchAFullParse() {
+        JwtService jwtService = jwtService(60_000, true);
+        String token = jwtService.generateToken("dev@example.com");
+
+        Claims parsed = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseSignedClaims(token).getPayload();
+        Claims claims = jwtService.verify(token);
+
+        assertThat(claims.getSubject()).isEqualTo("dev@example.com").isEqualTo(parsed.getSubject());
+        assertThat(claims.getExpiration()).isEqualTo(parsed.getExpiration());
+        assertThat(jwtService.isValidFor(claims, "dev@example.com")).isTrue();
+        assertThat(jwtService.isValidFor(claims, "other@example.com")).isFalse();
+    }
+
+    @Test
+    void repeatVerificationIsServedFromTheCache() {
+        JwtService jwtService = jwtService(60_000, true);
+        String token = jwtService.generateToken("dev@example.com");
+
+        assertThat(jwtService.verify(token)).isSameAs(jwtService.verify(token));
+    }
+
+    @Test
+    void cacheDisabledParsesEveryTime() {
+        JwtService jwtService = jwtService(60_000, false);
+        String token = jwtService.generateToken("dev@example.com");
+
+        Claims first = jwtService.verify(token);
+        Claims second = jwtService.verify(token);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getSubject()).isEqualTo(first.getSubject());
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenAfterTheOriginalWasCached() {
+        JwtService jwtService = jwtService(60_000, true);
+        String token = jwtService.generateToken("dev@example.com");
+        jwtService.verify(token);
+
+        int last = token.length() - 2;
+        String tampered = token.substring(0, last) + (token.charAt(last) == 'A' ? 'B' : 'A') + token.charAt(last + 1);
+        assertThatThrownBy(() -> jwtService.verify(tampered)).hasMessage("Invalid JWT token");
+        assertThatThrownBy(() -> jwtService.verify(tampered)).hasMessage("Invalid JWT token");
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtService jwtService = jwtService(-1_000, true);
+        String token = jwtService.generateToken("dev@example.com");
+
+        assertThatThrownBy(() -> jwtService.verify(token)).hasMessage("Invalid JWT token");
+    }
+
+    @Test
+    void cachedClaimsStopVerifyingOnceTheTokenExpires() throws InterruptedException {
+        JwtService jwtService = jwtService(1_000, true);
+        String token = jwtService.generateToken("dev@example.com");
+        assertThat(jwtService.verify(token).getSubject()).isEqualTo("dev@example.com");
+
+        // exp has second precision, so wait past the next full second
+        Thread.sleep(2_100);
+        assertThatThrownBy(() -> jwtService.verify(token)).hasMessage("Invalid JWT token");
+    }
+
+    private static JwtService jwtService(long expirationMs, boolean cacheEnabled) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", expirationMs);
+        ReflectionTestUtils.setField(jwtService, "cacheEnabled", cacheEnabled);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxEntries", 100L);
+        ReflectionTestUtils.setField(jwtService, "meterRegistry", new SimpleMeterRegistry());
+        jwtService.init();
+        return jwtService;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * The regex-based experience and posted-date parsing JobNormalizerService replaced, kept as
+ * the reference for equivalence tests and benchmarks. The posted-date parser takes
+ * {@code now} instead of reading the clock, and returns {@code null} where it used to
+ * leave the date unset.
+ */
+final class LegacyJobParsing {
+
+    private LegacyJobParsing() {}
+
+    static String normalizeExperience(String exp) {
+        if (exp == null || exp.isBlank()) return "Not specified";
+        return exp.toLowerCase()
+                  .replaceAll("[^0-9\\-– ]", "")
+                  .replace("–", "-")
+                  .trim();
+    }
+
+    static LocalDateTime parsePostedDate(String posted, LocalDateTime now) {
+        if (posted == null || posted.isBlank()) return null;
+
+        String postedText = posted.toLowerCase();
+
+        try {
+            if (postedText.contains("today")) {
+                return now;
+            } else if (postedText.contains("day")) {
+                int days = Integer.parseInt(postedText.replaceAll("\\D+", ""));
+                return now.minusDays(days);
+            } else {
+                // Default fallback
+                return now;
+            }
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
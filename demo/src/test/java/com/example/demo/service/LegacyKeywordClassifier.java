@@ -0,0 +1,82 @@
+package com.example.demo.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The String.contains-based classification JobTextMatcher replaced, kept as the reference
+ * for equivalence tests and benchmarks.
+ */
+final class LegacyKeywordClassifier {
+
+    private static final List<String> SKILLS = List.of(
+        "java", "python", "react", "node", "spring boot", "sql", "mongodb", "aws",
+        "javascript", "typescript", "docker", "kubernetes", "html", "css", "express",
+        "c++", "c#", "next.js", "flutter", "android", "django", "flask", "git"
+    );
+
+    private static final List<String> FRONTEND_KEYWORDS = List.of("react", "angular", "vue", "javascript", "typescript", "frontend", "html", "css");
+    private static final List<String> BACKEND_KEYWORDS = List.of("java", "spring", "node", "express", "django", "flask", "backend", "api");
+    private static final List<String> DATA_KEYWORDS = List.of("data", "ml", "ai", "machine learning", "deep learning", "python", "pandas", "numpy");
+    private static final List<String> DEVOPS_KEYWORDS = List.of("aws", "docker", "kubernetes", "jenkins", "terraform", "azure", "ci/cd");
+    private static final List<String> MOBILE_KEYWORDS = List.of("android", "flutter", "react native", "ios");
+    private static final List<String> TESTING_KEYWORDS = List.of("qa", "test", "selenium", "automation", "manual testing");
+
+    private LegacyKeywordClassifier() {}
+
+    static String category(String title, String skills) {
+        String text = (title + " " + skills).toLowerCase();
+
+        if (text.contains("intern"))
+            return "Internship";
+        else if (containsAny(text, FRONTEND_KEYWORDS))
+            return "Frontend Development";
+        else if (containsAny(text, BACKEND_KEYWORDS))
+            return "Backend Development";
+        else if (containsAny(text, DATA_KEYWORDS))
+            return "Data Science / ML";
+        else if (containsAny(text, DEVOPS_KEYWORDS))
+            return "DevOps / Cloud";
+        else if (containsAny(text, MOBILE_KEYWORDS))
+            return "Mobile Development";
+        else if (containsAny(text, TESTING_KEYWORDS))
+            return "QA / Testing";
+        else
+            return "General Tech";
+    }
+
+    static String titleSkills(String title) {
+        String lower = title.toLowerCase();
+        Set<String> detectedSkills = SKILLS.stream()
+                .filter(lower::contains)
+                .collect(Collectors.toSet());
+        return String.join(", ", detectedSkills);
+    }
+
+    static String jobType(String title) {
+        String lower = title.toLowerCase();
+        if (lower.contains("intern") || lower.contains("internship"))
+            return "Internship";
+        else if (lower.contains("contract"))
+            return "Contract";
+        else if (lower.contains("remote"))
+            return "Remote";
+        else
+            return "Full-time";
+    }
+
+    static String seniorityLevel(String title) {
+        String lower = title.toLowerCase();
+        if (lower.contains("senior") || lower.contains("lead"))
+            return "Senior";
+        else if (lower.contains("junior") || lower.contains("fresher"))
+            return "Junior";
+        else
+            return "Mid-level";
+    }
+
+    private static boolean containsAny(String text, List<String> keywords) {
+        return keywords.stream().anyMatch(text::contains);
+    }
+}
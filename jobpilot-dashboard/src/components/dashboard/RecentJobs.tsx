@@ -1,6 +1,6 @@
 import { Card, CardContent, CardHeader, CardTitle } from '@/components/ui/card';
 import { Badge } from '@/components/ui/badge';
-import { formatRelativeTime } from '@/lib/utils';
+import { formatRelativeTime, getStatusLabel } from '@/lib/utils';
 import { motion } from 'framer-motion';
 import type { Job } from '@/lib/types';
 import { ExternalLink } from 'lucide-react';
@@ -13,7 +13,7 @@ const getStatusColor = (status: Job['status']) => {
   switch (status) {
     case 'applied':
       return 'bg-success/10 text-success border-success/20 hover:bg-success/20';
-    case 'pending':
+    case 'leased':
       return 'bg-warning/10 text-warning border-warning/20 hover:bg-warning/20';
     case 'failed':
       return 'bg-destructive/10 text-destructive border-destructive/20 hover:bg-destructive/20';
@@ -56,7 +56,7 @@ export default function RecentJobs({ jobs }: RecentJobsProps) {
                       {job.title}
                     </h4>
                     <Badge className={`${getStatusColor(job.status)} transition-smooth font-medium`}>
-                      {job.status || 'new'}
+                      {getStatusLabel(job.status)}
                     </Badge>
                   </div>
                   <p className="text-sm text-muted-foreground font-medium">
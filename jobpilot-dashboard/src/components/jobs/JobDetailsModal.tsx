@@ -2,7 +2,7 @@ import { Dialog, DialogContent, DialogHeader, DialogTitle } from '@/components/u
 import { Badge } from '@/components/ui/badge';
 import { Button } from '@/components/ui/button';
 import { ExternalLink, Building2, MapPin, Calendar, Briefcase } from 'lucide-react';
-import { formatDate } from '@/lib/utils';
+import { formatDate, getStatusLabel } from '@/lib/utils';
 import type { Job } from '@/lib/types';
 
 interface JobDetailsModalProps {
@@ -15,7 +15,7 @@ const getStatusColor = (status: Job['status']) => {
   switch (status) {
     case 'applied':
       return 'bg-green-500/10 text-green-500 border-green-500/20';
-    case 'pending':
+    case 'leased':
       return 'bg-yellow-500/10 text-yellow-500 border-yellow-500/20';
     case 'failed':
       return 'bg-red-500/10 text-red-500 border-red-500/20';
@@ -35,7 +35,7 @@ export default function JobDetailsModal({ job, open, onClose }: JobDetailsModalP
         <div className="space-y-6">
           <div className="flex items-center gap-2">
             <Badge className={getStatusColor(job.status)}>
-              {job.status || 'new'}
+              {getStatusLabel(job.status)}
             </Badge>
             {job.jobType && (
               <Badge variant="outline">{job.jobType}</Badge>
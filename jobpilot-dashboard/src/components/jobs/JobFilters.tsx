@@ -5,6 +5,7 @@ import { Button } from '@/components/ui/button';
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from '@/components/ui/select';
 import { Search, X } from 'lucide-react';
 import type { Job } from '@/lib/types';
+import { getStatusLabel } from '@/lib/utils';
 
 interface JobFiltersProps {
   jobs: Job[];
@@ -30,7 +31,7 @@ export default function JobFilters({ jobs, onFilter, searchTerm, onSearchChange
     
     if (status !== 'all') {
       filtered = filtered.filter(job => 
-        status === 'new' ? !job.status : job.status === status
+        status === 'new' ? getStatusLabel(job.status) === 'new' : job.status === status
       );
     }
     
@@ -77,7 +78,7 @@ export default function JobFilters({ jobs, onFilter, searchTerm, onSearchChange
             <SelectContent>
               <SelectItem value="all">All Status</SelectItem>
               <SelectItem value="new">New</SelectItem>
-              <SelectItem value="pending">Pending</SelectItem>
+              <SelectItem value="leased">In progress</SelectItem>
               <SelectItem value="applied">Applied</SelectItem>
               <SelectItem value="failed">Failed</SelectItem>
             </SelectContent>
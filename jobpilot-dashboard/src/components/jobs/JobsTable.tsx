@@ -5,7 +5,7 @@ import { Button } from '@/components/ui/button';
 import { Badge } from '@/components/ui/badge';
 import { ExternalLink, Eye, CheckCircle, XCircle } from 'lucide-react';
 import { useUpdateJobStatus } from '@/hooks/useJobs';
-import { formatDate, truncateText } from '@/lib/utils';
+import { formatDate, getStatusLabel, truncateText } from '@/lib/utils';
 import JobDetailsModal from './JobDetailsModal';
 import type { Job } from '@/lib/types';
 import { toast } from 'sonner';
@@ -18,7 +18,7 @@ const getStatusColor = (status: Job['status']) => {
   switch (status) {
     case 'applied':
       return 'bg-green-500/10 text-green-500 border-green-500/20';
-    case 'pending':
+    case 'leased':
       return 'bg-yellow-500/10 text-yellow-500 border-yellow-500/20';
     case 'failed':
       return 'bg-red-500/10 text-red-500 border-red-500/20';
@@ -92,7 +92,7 @@ export default function JobsTable({ jobs }: JobsTableProps) {
                     </TableCell>
                     <TableCell>
                       <Badge className={getStatusColor(job.status)}>
-                        {job.status || 'new'}
+                        {getStatusLabel(job.status)}
                       </Badge>
                     </TableCell>
                     <TableCell className="text-sm text-muted-foreground">
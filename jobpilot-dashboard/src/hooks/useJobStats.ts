@@ -1,5 +1,6 @@
 import { useMemo } from 'react';
 import type { Job, JobStats } from '@/lib/types';
+import { getStatusLabel } from '@/lib/utils';
 
 export const useJobStats = (jobs: Job[] | undefined): JobStats => {
   return useMemo(() => {
@@ -10,9 +11,10 @@ export const useJobStats = (jobs: Job[] | undefined): JobStats => {
     return {
       total: jobs.length,
       applied: jobs.filter(j => j.status === 'applied').length,
-      pending: jobs.filter(j => j.status === 'pending').length,
+      // Same buckets as the status badges and filter: "new" is queued, "in progress" is leased
+      pending: jobs.filter(j => getStatusLabel(j.status) === 'in progress').length,
       failed: jobs.filter(j => j.status === 'failed').length,
-      new: jobs.filter(j => !j.status).length,
+      new: jobs.filter(j => getStatusLabel(j.status) === 'new').length,
     };
   }, [jobs]);
 };
\ No newline at end of file
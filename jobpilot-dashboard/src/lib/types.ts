@@ -13,7 +13,7 @@ export interface Job {
   source: string;
   posted: string;
   jobCategory: string;
-  status: 'applied' | 'pending' | 'failed' | null;
+  status: 'applied' | 'pending' | 'leased' | 'failed' | null;
   appliedAt: string | null;
 }
 
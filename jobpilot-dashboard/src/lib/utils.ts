@@ -1,5 +1,6 @@
 import { clsx, type ClassValue } from "clsx"
 import { twMerge } from "tailwind-merge"
+import type { Job } from "./types"
 
 export function cn(...inputs: ClassValue[]) {
   return twMerge(clsx(inputs))
@@ -41,3 +42,11 @@ export function truncateText(text: string, maxLength: number): string {
   if (!text || text.length <= maxLength) return text;
   return text.substring(0, maxLength) + '...';
 }
+
+// Queued jobs are stored as 'pending' (older rows may have no status yet) and shown as "new";
+// 'leased' jobs are being applied to right now
+export function getStatusLabel(status: Job['status']): string {
+  if (!status || status === 'pending') return 'new';
+  if (status === 'leased') return 'in progress';
+  return status;
+}
@@ -1,4 +1,4 @@
-from fastapi import FastAPI
+from fastapi import Body, FastAPI, HTTPException
 from scraper import scrape_jobs
 from auto_apply_naukri import auto_apply_jobs
 
@@ -111,6 +111,21 @@ def auto_apply_run_once(limit: int = 10):
         return {"status": "error", "message": str(e)}
 
 
+@app.post("/auto-apply/run-batch")
+def auto_apply_run_batch(batch: dict = Body(...)):
+    """Apply to a batch of jobs leased by Spring (dispatched runs). Blocks until the batch is done."""
+    try:
+        result = auto_apply_jobs(
+            jobs=batch.get("jobs", []),
+            run_id=batch.get("runId"),
+            worker_id=batch.get("workerId"),
+        )
+        return {"status": "completed", "result": result}
+    except Exception as e:
+        # Non-2xx so Spring releases the batch and stops dispatching to this worker
+        raise HTTPException(status_code=500, detail=str(e))
+
+
 # Backward-compatibility alias for existing callers expecting /auto-apply
 @app.post("/auto-apply")
 def auto_apply_compat(limit: int = 10):
@@ -11,15 +11,18 @@ SPRING_JOB_API = "http://localhost:8080/api/jobs"
 SPRING_AUTOAPPLY_API = "http://localhost:8080/api/autoapply"
 NAUKRI_EMAIL = os.getenv("NAUKRI_EMAIL")
 NAUKRI_PASSWORD = os.getenv("NAUKRI_PASSWORD")
+# Job results are sent to Spring in batches of this size (one PATCH per batch instead of one per job)
+STATUS_BATCH_SIZE = int(os.getenv("STATUS_BATCH_SIZE", "5"))
 
 os.makedirs("logs/applied_jobs", exist_ok=True)
 
 
 # ----------------------- BACKEND COMMUNICATION -----------------------
 
-def fetch_unapplied_jobs():
+def fetch_unapplied_jobs(limit=None):
     print("🧾 Fetching unapplied jobs from backend...")
-    response = requests.get(f"{SPRING_JOB_API}/unapplied")
+    params = {"limit": limit} if limit else None
+    response = requests.get(f"{SPRING_JOB_API}/unapplied", params=params)
     if response.status_code == 200:
         jobs = response.json()
         print(f"✅ Found {len(jobs)} unapplied jobs.")
@@ -29,24 +32,32 @@ def fetch_unapplied_jobs():
         return []
 
 
-def update_job_status(job_id, status, applied_at=None):
-    params = {"status": status}
-    if applied_at:
-        params["appliedAt"] = applied_at
-    response = requests.patch(f"{SPRING_JOB_API}/{job_id}/status", params=params)
-    if response.status_code == 200:
-        print(f"📦 Updated job {job_id} → {status}")
-    else:
-        print(f"⚠️ Failed to update job status for {job_id}: {response.text}")
-
-
-def update_progress(processed, successful):
-    """Send progress updates to Spring Boot backend."""
+def update_job_statuses(updates):
+    """Send buffered [{id, status, appliedAt}] results to Spring in one call."""
+    if not updates:
+        return
+    try:
+        response = requests.patch(f"{SPRING_JOB_API}/status:batch", json=updates)
+        if response.status_code == 200:
+            report = response.json()
+            print(f"📦 Updated {report['updated']} job statuses ({report['notFound']} not found, {report['failed']} failed)")
+        else:
+            print(f"⚠️ Failed to update job statuses: {response.text}")
+    except Exception as e:
+        print(f"⚠️ Failed to update job statuses: {e}")
+
+
+def update_progress(processed, successful, run_id=None, worker_id=None, mode=None):
+    """Send progress updates to Spring Boot backend (running totals, or increments with mode="delta")."""
+    payload = {"processed": processed, "successful": successful}
+    if mode:
+        payload["mode"] = mode
+    if run_id:
+        payload["runId"] = run_id
+    if worker_id:
+        payload["workerId"] = worker_id
     try:
-        requests.post(f"{SPRING_AUTOAPPLY_API}/update-progress", json={
-            "processed": processed,
-            "successful": successful
-        })
+        requests.post(f"{SPRING_AUTOAPPLY_API}/update-progress", json=payload)
         print(f"📊 Progress sent → processed={processed}, successful={successful}")
     except Exception as e:
         print(f"⚠️ Failed to update progress: {e}")
@@ -148,49 +159,64 @@ def apply_to_job(page, job):
 
 # ----------------------- MAIN SERVICE -----------------------
 
-def auto_apply_jobs(limit=5, stop_event=None):
-    jobs = fetch_unapplied_jobs()
+def auto_apply_jobs(limit=5, stop_event=None, jobs=None, run_id=None, worker_id=None):
+    """Apply to `limit` unapplied jobs, or to exactly `jobs` when Spring dispatched (leased) them."""
+    reported = [0, 0]
+
+    def report(processed, successful):
+        if run_id:
+            # Dispatched batch: send increments so every batch of this worker adds up in Spring
+            update_progress(processed - reported[0], successful - reported[1], run_id, worker_id, mode="delta")
+            reported[0], reported[1] = processed, successful
+        else:
+            update_progress(processed, successful)
+
+    if jobs is None:
+        jobs = fetch_unapplied_jobs(limit)
+    else:
+        limit = len(jobs)
     if not jobs:
         print("✅ No unapplied jobs found.")
-        update_progress(0, 0)
-        try:
-            requests.post(f"{SPRING_AUTOAPPLY_API}/stop")
-        except Exception as e:
-            print(f"⚠️ Failed to notify stop on empty queue: {e}")
+        report(0, 0)
+        # Spring marks the run finished when /auto-apply/run-once returns; /stop would cancel it
         return {"processed": 0, "successful": 0}
 
     processed = 0
     successful = 0
-    update_progress(processed, successful)
-
-    with sync_playwright() as p:
-        # 🚀 removed slow_mo for speed, keep UI visible if debugging
-        browser = p.chromium.launch(headless=False)
-        context = browser.new_context()
-        page = context.new_page()
-
-        login_to_naukri(page)
-
-        for job in jobs[:limit]:
-            if stop_event is not None and getattr(stop_event, "is_set", lambda: False)():
-                print("⏹️ Stop requested — exiting early.")
-                break
-            status, applied_at = apply_to_job(page, job)
-            update_job_status(job["id"], status, applied_at)
-            processed += 1
-            if status == "applied":
-                successful += 1
-            update_progress(processed, successful)
-            time.sleep(0.7)  # reduced from 2s to 0.7s
+    pending_updates = []
+    report(processed, successful)
 
-        browser.close()
+    try:
+        with sync_playwright() as p:
+            # 🚀 removed slow_mo for speed, keep UI visible if debugging
+            browser = p.chromium.launch(headless=False)
+            context = browser.new_context()
+            page = context.new_page()
+
+            login_to_naukri(page)
+
+            for job in jobs[:limit]:
+                if stop_event is not None and getattr(stop_event, "is_set", lambda: False)():
+                    print("⏹️ Stop requested — exiting early.")
+                    break
+                status, applied_at = apply_to_job(page, job)
+                pending_updates.append({"id": job["id"], "status": status, "appliedAt": applied_at})
+                if len(pending_updates) >= STATUS_BATCH_SIZE:
+                    update_job_statuses(pending_updates)
+                    pending_updates = []
+                processed += 1
+                if status == "applied":
+                    successful += 1
+                report(processed, successful)
+                time.sleep(0.7)  # reduced from 2s to 0.7s
+
+            browser.close()
+    finally:
+        # Also on errors, so Spring never loses a result the worker already has
+        update_job_statuses(pending_updates)
 
     print(f"\n🎯 Auto Apply completed! Processed: {processed}, Successful: {successful}")
-    update_progress(processed, successful)
-    try:
-        requests.post(f"{SPRING_AUTOAPPLY_API}/stop")
-    except Exception as e:
-        print(f"⚠️ Failed to notify stop: {e}")
+    report(processed, successful)
     return {"processed": processed, "successful": successful}
 
 